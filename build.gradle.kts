@@ -66,6 +66,10 @@ sourceSets.main {
     resources.srcDirs(projectPath / "src" / "generated" / "resources", projectPath / "src" / "main" / "resources")
 }
 val mainSourceSet by sourceSets.main
+val jmhSourceSet: SourceSet = sourceSets.create("jmh") {
+    compileClasspath += mainSourceSet.output + mainSourceSet.compileClasspath
+    runtimeClasspath += mainSourceSet.output + mainSourceSet.runtimeClasspath
+}
 
 configurations {
     val minecraft by getting
@@ -95,6 +99,9 @@ dependencies {
 
     testImplementation(libs.junit.api)
     testRuntimeOnly(libs.junit.engine)
+
+    "jmhImplementation"(libs.jmh.core)
+    "jmhAnnotationProcessor"(libs.jmh.annprocess)
 }
 
 minecraft {
@@ -154,6 +161,34 @@ fun Manifest.applyCommonManifest() {
     }
 }
 
+// Runs all benchmarks, or only those matching -PjmhIncludes=<regex>
+val jmh by tasks.registering(JavaExec::class) {
+    group = "verification"
+    description = "Runs the JMH benchmarks and writes the results to build/reports/jmh/results.json"
+    dependsOn(tasks.named(jmhSourceSet.classesTaskName))
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.file(resultFile)
+    outputs.upToDateWhen { false }
+    classpath = jmhSourceSet.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    args("-rf", "json", "-rff", resultFile.get().asFile.absolutePath)
+    (project.findProperty("jmhIncludes") as String?)?.let { args(it) }
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+}
+
+// Validates the chemical configs in -PchemicalsDir=<directory>, run/config/chemlibcc by default
+val validateChemicals by tasks.registering(JavaExec::class) {
+    group = "verification"
+    description = "Validates the chemical configs without launching the game and fails on any error"
+    dependsOn(tasks.named(mainSourceSet.classesTaskName))
+    classpath = mainSourceSet.runtimeClasspath
+    mainClass = "io.karma.chemlibcc.config.ChemicalValidator"
+    args(project.findProperty("chemicalsDir") as String? ?: (projectPath / "run" / "config" / modId).pathString)
+    (project.findProperty("chemicalReferences") as String?)?.split(',')?.forEach { args("--reference", it) }
+}
+
 val generateVersionInfo by tasks.registering {
     doLast {
         println(baseVersion)
@@ -204,6 +239,9 @@ tasks {
     withType<Jar> {
         duplicatesStrategy = DuplicatesStrategy.INCLUDE
     }
+    test {
+        useJUnitPlatform()
+    }
 
     System.getenv("CI_CURSEFORGE_TOKEN")?.let { token ->
         create<TaskPublishCurseForge>("publishToCurseForge") {
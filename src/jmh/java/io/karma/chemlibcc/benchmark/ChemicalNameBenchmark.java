@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.benchmark;
+
+import io.karma.chemlibcc.util.ChemicalNames;
+import io.karma.chemlibcc.util.ContentStats;
+import io.karma.chemlibcc.util.ReloadableValue;
+import net.minecraft.network.chat.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the name lookup of generated chemical items. Items can't be
+ * constructed outside a bootstrapped registry, so this calls the name
+ * factory shared by all derived items and compares the cached path taken
+ * by getName against building the name on every call, for translated
+ * elements and compounds and for chemicals falling back to their display
+ * name.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChemicalNameBenchmark {
+    private ReloadableValue<Component> cachedName;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessLanguage.install();
+        HeadlessLanguage.addTranslations(Map.of("item.chemlib.element_synthetic_element_0",
+            "Synthetic Element 0",
+            "item.chemlib.compound_synthetic_compound_0",
+            "Synthetic Compound 0",
+            "chemlibcc.plate",
+            "Plate",
+            "chemlibcc.dust",
+            "Dust"));
+        cachedName = new ReloadableValue<>(ContentStats.Cache.ITEM_NAMES,
+            ChemicalNameBenchmark::createTranslatedName);
+    }
+
+    private static Component createTranslatedName() {
+        return ChemicalNames.createDerivedName("synthetic_element_0", "Synthetic Element 0", "plate");
+    }
+
+    private static Component createFallbackName() {
+        return ChemicalNames.createDerivedName("synthetic_element_1", "Synthetic Element 1", "plate");
+    }
+
+    @Benchmark
+    public Component cached() {
+        return cachedName.get();
+    }
+
+    @Benchmark
+    public Component uncached() {
+        return createTranslatedName();
+    }
+
+    @Benchmark
+    public Component uncachedCompound() {
+        return ChemicalNames.createDerivedName("synthetic_compound_0", "Synthetic Compound 0", "dust");
+    }
+
+    @Benchmark
+    public Component uncachedFallback() {
+        return createFallbackName();
+    }
+
+    @Benchmark
+    public Component afterReload() {
+        ReloadableValue.invalidateAll();
+        return cachedName.get();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.benchmark;
+
+import io.karma.chemlibcc.config.ChemicalConfigReader;
+import io.karma.chemlibcc.config.ChemicalDefinitionCache;
+import io.karma.chemlibcc.config.CompoundDefinition;
+import io.karma.chemlibcc.config.DecodeResult;
+import io.karma.chemlibcc.config.DefinitionCodecs;
+import io.karma.chemlibcc.config.ElementDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures decoding the chemical configs from JSON, and loading them
+ * back from the binary definition cache.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigReaderBenchmark {
+    @Param({"1000", "10000", "50000"})
+    public int chemicalCount;
+
+    private String elements;
+    private String compounds;
+    private Path directory;
+    private Path elementsFile;
+    private Path compoundsFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        elements = SyntheticConfigs.elements(chemicalCount);
+        compounds = SyntheticConfigs.compounds(chemicalCount);
+        directory = Files.createTempDirectory("chemlibcc-benchmark");
+        elementsFile = Files.writeString(directory.resolve("elements.json"), elements, StandardCharsets.UTF_8);
+        compoundsFile = Files.writeString(directory.resolve("compounds.json"), compounds, StandardCharsets.UTF_8);
+        // Populate the caches, so the cached benchmarks only measure hits
+        readCachedElements();
+        readCachedCompounds();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            for (final var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public DecodeResult<ElementDefinition> readElements() throws IOException {
+        return ChemicalConfigReader.readElements(new StringReader(elements));
+    }
+
+    @Benchmark
+    public DecodeResult<CompoundDefinition> readCompounds() throws IOException {
+        return ChemicalConfigReader.readCompounds(new StringReader(compounds));
+    }
+
+    @Benchmark
+    public DecodeResult<ElementDefinition> readCachedElements() throws IOException {
+        return ChemicalDefinitionCache.load(elementsFile,
+            directory.resolve("elements.bin"),
+            ChemicalConfigReader::readElements,
+            DefinitionCodecs.ELEMENT);
+    }
+
+    @Benchmark
+    public DecodeResult<CompoundDefinition> readCachedCompounds() throws IOException {
+        return ChemicalDefinitionCache.load(compoundsFile,
+            directory.resolve("compounds.bin"),
+            ChemicalConfigReader::readCompounds,
+            DefinitionCodecs.COMPOUND);
+    }
+}
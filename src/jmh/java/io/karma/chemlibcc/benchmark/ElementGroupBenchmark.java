@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.benchmark;
+
+import io.karma.chemlibcc.util.ElementGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookups done by every element tooltip.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementGroupBenchmark {
+    private String[] names;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessLanguage.install();
+        final var groups = ElementGroup.values();
+        names = new String[groups.length + 1];
+        for (var i = 0; i < groups.length; i++) {
+            names[i] = groups[i].getSerializedName();
+        }
+        names[groups.length] = "not_a_group";
+    }
+
+    @Benchmark
+    public void byName(final Blackhole blackhole) {
+        for (final var name : names) {
+            blackhole.consume(ElementGroup.byName(name));
+        }
+    }
+
+    @Benchmark
+    public void byAtomicNumber(final Blackhole blackhole) {
+        for (var i = 0; i <= 120; i++) {
+            blackhole.consume(ElementGroup.byAtomicNumber(i));
+        }
+    }
+
+    @Benchmark
+    public void getLocalizedName(final Blackhole blackhole) {
+        for (final var group : ElementGroup.values()) {
+            blackhole.consume(group.getLocalizedName());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.benchmark;
+
+import net.minecraft.locale.Language;
+import net.minecraft.network.chat.FormattedText;
+import net.minecraft.network.chat.Style;
+import net.minecraft.util.FormattedCharSequence;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stands in for the client language, so localized lookups work without
+ * a running client. Only keys added through {@link #addTranslations(Map)}
+ * exist, every other key translates to the requested default.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class HeadlessLanguage extends Language {
+    private static final ConcurrentHashMap<String, String> TRANSLATIONS = new ConcurrentHashMap<>();
+    private static volatile boolean isInstalled;
+
+    // @formatter:off
+    private HeadlessLanguage() {}
+    // @formatter:on
+
+    /**
+     * Has to be called before I18n is first touched, since it
+     * captures the language instance during class initialization.
+     */
+    public static synchronized void install() {
+        if (isInstalled) {
+            return;
+        }
+        Language.inject(new HeadlessLanguage());
+        isInstalled = true;
+    }
+
+    public static void addTranslations(final Map<String, String> translations) {
+        TRANSLATIONS.putAll(translations);
+    }
+
+    @Override
+    public @NotNull String getOrDefault(final @NotNull String key, final @NotNull String defaultValue) {
+        return TRANSLATIONS.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public boolean has(final @NotNull String key) {
+        return TRANSLATIONS.containsKey(key);
+    }
+
+    @Override
+    public boolean isDefaultRightToLeft() {
+        return false;
+    }
+
+    @Override
+    public @NotNull FormattedCharSequence getVisualOrder(final @NotNull FormattedText text) {
+        return FormattedCharSequence.forward(text.getString(), Style.EMPTY);
+    }
+}
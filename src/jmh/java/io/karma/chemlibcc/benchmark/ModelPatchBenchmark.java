@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.benchmark;
+
+import io.karma.chemlibcc.util.ModelRegistryUtils;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.resources.ResourceLocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures patching the baked model map for a given number of generated
+ * blocks, like ChemLibCC#onModifyBakingResult does. Item models are
+ * resolved lazily and aren't part of the patch. Every parameter runs
+ * in its own fork since the registered patches are global.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelPatchBenchmark {
+    @Param({"1000", "10000", "50000"})
+    public int chemicalCount;
+
+    private HashMap<ResourceLocation, BakedModel> models;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (var i = 0; i < chemicalCount; i++) {
+            ModelRegistryUtils.registerModel(new ResourceLocation("chemlib",
+                String.format("%s_metal_block", SyntheticConfigs.elementName(i))), "", ModelRegistryUtils.METAL_BLOCK_MODEL);
+        }
+        models = new HashMap<>();
+        // The model instances are never touched, only the lookups and insertions are measured
+        for (final var model : ModelRegistryUtils.ADDITIONAL_MODELS) {
+            models.put(model, null);
+        }
+    }
+
+    @Benchmark
+    public int applyPatches() {
+        return ModelRegistryUtils.applyPatches(models);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.benchmark;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.karma.chemlibcc.util.ElementGroup;
+
+/**
+ * Generates elements.json and compounds.json contents of arbitrary size
+ * which exercise every field understood by the config reader.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class SyntheticConfigs {
+    public static final int FIRST_ATOMIC_NUMBER = 119;
+
+    private static final String[] MATTER_STATES = {"solid", "liquid", "gas"};
+    private static final String[] METAL_TYPES = {"metal", "metalloid", "nonmetal"};
+    private static final ElementGroup[] GROUPS = ElementGroup.values();
+
+    // @formatter:off
+    private SyntheticConfigs() {}
+    // @formatter:on
+
+    public static String elementName(final int index) {
+        return String.format("synthetic_element_%d", index);
+    }
+
+    public static String compoundName(final int index) {
+        return String.format("synthetic_compound_%d", index);
+    }
+
+    public static String elements(final int count) {
+        final var elements = new JsonArray();
+        for (var i = 0; i < count; i++) {
+            final var matterState = MATTER_STATES[i % MATTER_STATES.length];
+            final var element = new JsonObject();
+            element.addProperty("name", elementName(i));
+            element.addProperty("display_name", String.format("Synthetic Element %d", i));
+            element.addProperty("atomic_number", FIRST_ATOMIC_NUMBER + i);
+            element.addProperty("abbreviation", String.format("Sy%d", i));
+            element.addProperty("group_name", GROUPS[i % GROUPS.length].getSerializedName());
+            element.addProperty("group", 1 + i % 18);
+            element.addProperty("period", 1 + i % 7);
+            element.addProperty("matter_state", matterState);
+            element.addProperty("metal_type", METAL_TYPES[i % METAL_TYPES.length]);
+            element.addProperty("artificial", i % 10 == 0);
+            element.addProperty("color", String.format("%06X", (i * 0x9E3779) & 0xFFFFFF));
+            if (!matterState.equals("solid")) {
+                element.add("fluid_properties", fluidProperties(i));
+            }
+            if (i % 4 == 0) {
+                element.add("effect", effects(i));
+            }
+            elements.add(element);
+        }
+        final var root = new JsonObject();
+        root.add("elements", elements);
+        return root.toString();
+    }
+
+    public static String compounds(final int count) {
+        final var compounds = new JsonArray();
+        for (var i = 0; i < count; i++) {
+            final var matterState = MATTER_STATES[i % MATTER_STATES.length];
+            final var compound = new JsonObject();
+            compound.addProperty("name", compoundName(i));
+            compound.addProperty("display_name", String.format("Synthetic Compound %d", i));
+            compound.addProperty("matter_state", matterState);
+            compound.addProperty("description", String.format("A synthetic compound numbered %d", i));
+            compound.addProperty("color", String.format("#%06x", (i * 0x7F4A7C) & 0xFFFFFF));
+            final var components = new JsonArray();
+            for (var j = 0; j < 1 + i % 4; j++) {
+                final var component = new JsonObject();
+                component.addProperty("name", elementName((i + j) % count));
+                component.addProperty("count", 1 + j);
+                components.add(component);
+            }
+            compound.add("components", components);
+            compound.addProperty("has_item", i % 3 == 0);
+            if (!matterState.equals("solid")) {
+                compound.add("fluid_properties", fluidProperties(i));
+            }
+            if (i % 4 == 0) {
+                compound.add("effect", effects(i));
+            }
+            compounds.add(compound);
+        }
+        final var root = new JsonObject();
+        root.add("compounds", compounds);
+        return root.toString();
+    }
+
+    private static JsonObject fluidProperties(final int index) {
+        final var properties = new JsonObject();
+        properties.addProperty("density", 500 + index % 1500);
+        properties.addProperty("viscosity", 1000 + index % 3000);
+        properties.addProperty("temperature", 300);
+        properties.addProperty("slope_find_distance", 2 + index % 4);
+        properties.addProperty("decrease_per_block", 1 + index % 2);
+        return properties;
+    }
+
+    private static JsonArray effects(final int index) {
+        final var effect = new JsonObject();
+        effect.addProperty("location", index % 8 == 0 ? "minecraft:poison" : "minecraft:nausea");
+        effect.addProperty("duration", 200);
+        effect.addProperty("amplifier", index % 3);
+        final var effects = new JsonArray();
+        effects.add(effect);
+        return effects;
+    }
+}
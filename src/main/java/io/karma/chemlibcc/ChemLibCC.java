@@ -15,21 +15,32 @@
 
 package io.karma.chemlibcc;
 
-import com.smashingmods.chemlib.ChemLib;
-import io.karma.chemlibcc.item.*;
-import io.karma.chemlibcc.util.BuiltinRendererItem;
-import net.minecraft.client.resources.model.ModelResourceLocation;
-import net.minecraft.resources.ResourceLocation;
+import io.karma.chemlibcc.command.ChemLibCCCommand;
+import io.karma.chemlibcc.config.ChemicalConfigLoader;
+import io.karma.chemlibcc.config.ConfigWatcher;
+import io.karma.chemlibcc.network.ChemLibCCNetwork;
+import io.karma.chemlibcc.util.CompositionIndex;
+import io.karma.chemlibcc.util.FormulaEngine;
+import io.karma.chemlibcc.util.ModelRegistryUtils;
+import io.karma.chemlibcc.util.ReloadableValue;
+import io.karma.chemlibcc.util.StartupProfiler;
+import io.karma.chemlibcc.util.StartupProfiler.Phase;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.client.event.ModelEvent;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.lifecycle.FMLLoadCompleteEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
-import net.minecraftforge.registries.ForgeRegistries;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author Alexander Hinze
  * @since 09/10/2024
@@ -38,97 +49,66 @@ import org.apache.logging.log4j.Logger;
 public class ChemLibCC {
     public static final String MODID = "chemlibcc";
     public static final Logger LOGGER = LogManager.getLogger("ChemLib CC");
-
-    private static final ResourceLocation COMPOUND_MODEL = new ResourceLocation(ChemLib.MODID,
-        "item/compound_solid_model");
-    private static final ResourceLocation COMPOUND_DUST_MODEL = new ResourceLocation(ChemLib.MODID,
-        "item/compound_dust_model");
-    private static final ResourceLocation COMPOUND_GAS_MODEL = new ResourceLocation(ChemLib.MODID,
-        "item/compound_gas_model");
-    private static final ResourceLocation COMPOUND_LIQUID_MODEL = new ResourceLocation(ChemLib.MODID,
-        "item/compound_liquid_model");
-    private static final ResourceLocation BUILTIN_MODEL = new ResourceLocation(MODID, "item/builtin");
-    private static final ResourceLocation METAL_BLOCK_MODEL = new ResourceLocation(MODID, "block/metal_block");
-    private static final ResourceLocation METAL_BLOCK_ITEM_MODEL = new ResourceLocation(MODID, "item/metal_block");
-    private static final ResourceLocation LAMP_BLOCK_MODEL = new ResourceLocation(MODID, "block/lamp");
-    private static final ResourceLocation LAMP_ON_BLOCK_MODEL = new ResourceLocation(MODID, "block/lamp_on");
-    private static final ResourceLocation LAMP_BLOCK_ITEM_MODEL = new ResourceLocation(MODID, "item/lamp");
+    private static final boolean WATCH_CONFIG = Boolean.getBoolean("chemlibcc.watchConfig");
 
     public ChemLibCC() {
         LOGGER.info("Hello, World!");
+        ChemLibCCNetwork.register();
+        FMLJavaModLoadingContext.get().getModEventBus().addListener(this::onLoadComplete);
+        MinecraftForge.EVENT_BUS.addListener(this::onRegisterCommands);
         DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
             final var bus = FMLJavaModLoadingContext.get().getModEventBus();
             bus.addListener(this::onRegisterAdditionalModels);
             bus.addListener(this::onModifyBakingResult);
+            bus.addListener(this::onBakingCompleted);
+            bus.addListener(this::onRegisterClientReloadListeners);
         });
     }
 
+    private void onLoadComplete(final FMLLoadCompleteEvent event) {
+        final var startTime = System.nanoTime();
+        final var formulas = FormulaEngine.computeAll();
+        final var index = CompositionIndex.build(formulas);
+        LOGGER.info("Computed {} formulas and indexed composition of {} compounds in {}ms",
+            formulas.size(),
+            index.size(),
+            (System.nanoTime() - startTime) / 1_000_000L);
+        StartupProfiler.report();
+        if (WATCH_CONFIG) {
+            ConfigWatcher.start(ChemicalConfigLoader.getConfigDirectory());
+        }
+    }
+
+    private void onRegisterCommands(final RegisterCommandsEvent event) {
+        ChemLibCCCommand.register(event.getDispatcher());
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    private void onRegisterClientReloadListeners(final RegisterClientReloadListenersEvent event) {
+        event.registerReloadListener((ResourceManagerReloadListener) manager -> ReloadableValue.invalidateAll());
+    }
+
     @OnlyIn(Dist.CLIENT)
     private void onRegisterAdditionalModels(final ModelEvent.RegisterAdditional event) {
         LOGGER.info("Registering additional item models");
-        event.register(COMPOUND_MODEL);
-        event.register(COMPOUND_DUST_MODEL);
-        event.register(COMPOUND_GAS_MODEL);
-        event.register(COMPOUND_LIQUID_MODEL);
-        event.register(BUILTIN_MODEL);
-        event.register(METAL_BLOCK_MODEL);
-        event.register(METAL_BLOCK_ITEM_MODEL);
-        event.register(LAMP_BLOCK_MODEL);
-        event.register(LAMP_ON_BLOCK_MODEL);
-        event.register(LAMP_BLOCK_ITEM_MODEL);
+        final var startTime = System.nanoTime();
+        ModelRegistryUtils.ADDITIONAL_MODELS.forEach(event::register);
+        StartupProfiler.record(Phase.MODEL_REGISTRATION, startTime);
     }
 
     @OnlyIn(Dist.CLIENT)
     private void onModifyBakingResult(final ModelEvent.ModifyBakingResult event) {
-        final var models = event.getModels();
-
-        for (final var entry : ForgeRegistries.BLOCKS.getEntries()) {
-            final var block = entry.getValue();
-            final var blockName = entry.getKey().location();
-            if (block instanceof GeneratedChemicalBlock) {
-                models.put(new ModelResourceLocation(blockName, ""), models.get(METAL_BLOCK_MODEL));
-                LOGGER.info("Patched block model for {}", blockName);
-                continue;
-            }
-            if (block instanceof GeneratedLampBlock) {
-                models.put(new ModelResourceLocation(blockName, "lit=false"), models.get(LAMP_BLOCK_MODEL));
-                models.put(new ModelResourceLocation(blockName, "lit=true"), models.get(LAMP_ON_BLOCK_MODEL));
-                LOGGER.info("Patched block model for {}", blockName);
-            }
-        }
+        final var startTime = System.nanoTime();
+        final var patchCount = ModelRegistryUtils.applyPatches(event.getModels());
+        StartupProfiler.record(Phase.MODEL_PATCH, startTime);
+        LOGGER.info("Patched {} generated block models in {}ms, deferred {} item models",
+            patchCount,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime),
+            ModelRegistryUtils.getItemModelCount());
+    }
 
-        for (final var entry : ForgeRegistries.ITEMS.getEntries()) {
-            final var item = entry.getValue();
-            final var itemName = entry.getKey().location();
-            if (item instanceof BuiltinRendererItem) {
-                models.put(new ModelResourceLocation(itemName, "inventory"), models.get(BUILTIN_MODEL));
-                LOGGER.info("Patched item model for {}", itemName);
-                continue;
-            }
-            if (item instanceof GeneratedCompoundItem compoundItem) {
-                final var model = switch (compoundItem.getMatterState()) {
-                    case SOLID -> models.get(COMPOUND_MODEL);
-                    case GAS -> models.get(COMPOUND_GAS_MODEL);
-                    case LIQUID -> models.get(COMPOUND_LIQUID_MODEL);
-                };
-                models.put(new ModelResourceLocation(itemName, "inventory"), model);
-                LOGGER.info("Patched item model for {}", itemName);
-                continue;
-            }
-            if (item instanceof GeneratedCompoundDustItem) {
-                models.put(new ModelResourceLocation(itemName, "inventory"), models.get(COMPOUND_DUST_MODEL));
-                LOGGER.info("Patched item model for {}", itemName);
-                continue;
-            }
-            if (item instanceof GeneratedChemicalBlockItem) {
-                models.put(new ModelResourceLocation(itemName, "inventory"), models.get(METAL_BLOCK_ITEM_MODEL));
-                LOGGER.info("Patched item model for {}", itemName);
-                continue;
-            }
-            if (item instanceof GeneratedLampBlockItem) {
-                models.put(new ModelResourceLocation(itemName, "inventory"), models.get(LAMP_BLOCK_ITEM_MODEL));
-                LOGGER.info("Patched item model for {}", itemName);
-            }
-        }
+    @OnlyIn(Dist.CLIENT)
+    private void onBakingCompleted(final ModelEvent.BakingCompleted event) {
+        ModelRegistryUtils.setBakedModels(event.getModels());
     }
 }
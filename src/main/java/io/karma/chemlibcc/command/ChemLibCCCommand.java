@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.command;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.config.ChemicalReloader;
+import io.karma.chemlibcc.config.ReloadReport;
+import io.karma.chemlibcc.util.ContentStats;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ChemLibCCCommand {
+    // @formatter:off
+    private ChemLibCCCommand() {}
+    // @formatter:on
+
+    public static void register(final CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal(ChemLibCC.MODID)
+            .requires(source -> source.hasPermission(Commands.LEVEL_GAMEMASTERS))
+            .then(Commands.literal("reload").executes(ChemLibCCCommand::reload))
+            .then(Commands.literal("stats").executes(ChemLibCCCommand::stats)));
+    }
+
+    private static int reload(final CommandContext<CommandSourceStack> context) {
+        final var source = context.getSource();
+        // The changes are applied on the main thread, which may be the client thread in singleplayer
+        ChemicalReloader.reload().whenCompleteAsync((report, error) -> {
+            if (error != null) {
+                ChemLibCC.LOGGER.error("Could not reload configuration: {}", error);
+                source.sendFailure(Component.translatable(String.format("command.%s.reload.failed", ChemLibCC.MODID),
+                    String.valueOf(error.getMessage())));
+                return;
+            }
+            sendReport(source, report);
+        }, source.getServer());
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static void sendReport(final CommandSourceStack source, final ReloadReport report) {
+        if (report.isEmpty()) {
+            source.sendSuccess(() -> Component.translatable(String.format("command.%s.reload.unchanged",
+                ChemLibCC.MODID)), true);
+            return;
+        }
+        source.sendSuccess(() -> Component.translatable(String.format("command.%s.reload.applied", ChemLibCC.MODID),
+            report.applied().size()), true);
+        for (final var change : report.applied()) {
+            source.sendSuccess(() -> Component.literal(change).withStyle(ChatFormatting.GRAY), false);
+        }
+        if (!report.clientOnly().isEmpty()) {
+            source.sendSuccess(() -> Component.translatable(String.format("command.%s.reload.client_only",
+                ChemLibCC.MODID), report.clientOnly().size()).withStyle(ChatFormatting.GOLD), true);
+            for (final var change : report.clientOnly()) {
+                source.sendSuccess(() -> Component.literal(change).withStyle(ChatFormatting.GRAY), false);
+            }
+        }
+        if (!report.restartRequired().isEmpty()) {
+            source.sendSuccess(() -> Component.translatable(String.format("command.%s.reload.restart",
+                ChemLibCC.MODID), report.restartRequired().size()).withStyle(ChatFormatting.GOLD), true);
+            for (final var change : report.restartRequired()) {
+                source.sendSuccess(() -> Component.literal(change).withStyle(ChatFormatting.GRAY), false);
+            }
+        }
+    }
+
+    private static int stats(final CommandContext<CommandSourceStack> context) {
+        final var source = context.getSource();
+        final var stats = ContentStats.snapshot();
+        source.sendSuccess(() -> Component.translatable(String.format("command.%s.stats.header", ChemLibCC.MODID),
+            stats.elementCount(),
+            stats.compoundCount()), false);
+        final var lines = new ArrayList<Component>();
+        for (final var entry : stats.itemCounts().entrySet()) {
+            lines.add(translateStat("items", entry.getKey().getSerializedName(), entry.getValue()));
+        }
+        lines.add(translateStat("metal_blocks", stats.metalBlockCount()));
+        lines.add(translateStat("lamp_blocks", stats.lampBlockCount()));
+        lines.add(translateStat("fluids", stats.fluidCount()));
+        lines.add(translateStat("buckets", stats.bucketCount()));
+        lines.add(translateStat("property_store",
+            String.format(Locale.ROOT, "%.1f", stats.estimatedStoreSize() / 1024.0)));
+        for (final var entry : stats.caches().entrySet()) {
+            final var cache = entry.getValue();
+            lines.add(translateStat("cache",
+                Component.translatable(entry.getKey().getTranslationKey()),
+                cache.hits(),
+                cache.misses(),
+                String.format(Locale.ROOT, "%.1f", cache.getHitRate() * 100.0)));
+        }
+        for (final var line : lines) {
+            source.sendSuccess(() -> line, false);
+        }
+        return stats.elementCount() + stats.compoundCount();
+    }
+
+    private static Component translateStat(final String name, final Object... args) {
+        return Component.translatable(String.format("command.%s.stats.%s", ChemLibCC.MODID, name), args)
+            .withStyle(ChatFormatting.GRAY);
+    }
+}
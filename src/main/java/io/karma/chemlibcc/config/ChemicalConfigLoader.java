@@ -0,0 +1,242 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.config;
+
+import io.karma.chemlibcc.ChemLibCC;
+import net.minecraftforge.fml.loading.FMLLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Reads and decodes the element and compound configs in parallel, so only
+ * the actual registration has to happen on the mod loading thread.
+ * Besides the elements.json and compounds.json files, every JSON file
+ * below the elements and compounds directories is loaded as a shard.
+ * Shards are merged in the order of their relative paths after the
+ * top level file, and each one is cached separately.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ChemicalConfigLoader {
+    private static final String CACHE_DIRECTORY = ".cache";
+    static final Kind<ElementDefinition> ELEMENTS = new Kind<>("elements",
+        "element",
+        ChemicalConfigReader::readElements,
+        DefinitionCodecs.ELEMENT,
+        ElementDefinition::name);
+    static final Kind<CompoundDefinition> COMPOUNDS = new Kind<>("compounds",
+        "compound",
+        ChemicalConfigReader::readCompounds,
+        DefinitionCodecs.COMPOUND,
+        CompoundDefinition::name);
+
+    // @formatter:off
+    private ChemicalConfigLoader() {}
+    // @formatter:on
+
+    public static Path getConfigDirectory() {
+        return FMLLoader.getGamePath().resolve("config").resolve(ChemLibCC.MODID);
+    }
+
+    public static ChemicalDefinitions load(final Path directory) {
+        final var elementFiles = findFiles(directory, ELEMENTS);
+        final var compoundFiles = findFiles(directory, COMPOUNDS);
+        final var threadCount = Math.max(1,
+            Math.min(elementFiles.size() + compoundFiles.size(), Runtime.getRuntime().availableProcessors()));
+        final var executor = Executors.newFixedThreadPool(threadCount, task -> {
+            final var thread = new Thread(task, "ChemLib CC Config Loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final var elements = loadAll(directory, elementFiles, ELEMENTS, executor);
+            final var compounds = loadAll(directory, compoundFiles, COMPOUNDS, executor);
+            final var definitions = new ChemicalDefinitions(merge(directory, elementFiles, elements.join(), ELEMENTS),
+                merge(directory, compoundFiles, compounds.join(), COMPOUNDS));
+            pruneCache(directory, elementFiles, ELEMENTS);
+            pruneCache(directory, compoundFiles, COMPOUNDS);
+            ChemLibCC.LOGGER.info("Loaded {} elements from {} files and {} compounds from {} files",
+                definitions.elements().size(),
+                elementFiles.size(),
+                definitions.compounds().size(),
+                compoundFiles.size());
+            reportEffectSets(definitions);
+            return definitions;
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void reportEffectSets(final ChemicalDefinitions definitions) {
+        // Effect lists are interned while decoding, so equal sets are the same instance
+        final var effectSets = Collections.newSetFromMap(new IdentityHashMap<List<EffectDefinition>, Boolean>());
+        var chemicalCount = 0;
+        for (final var element : definitions.elements()) {
+            if (!element.effects().isEmpty()) {
+                effectSets.add(element.effects());
+                chemicalCount++;
+            }
+        }
+        for (final var compound : definitions.compounds()) {
+            if (!compound.effects().isEmpty()) {
+                effectSets.add(compound.effects());
+                chemicalCount++;
+            }
+        }
+        ChemLibCC.LOGGER.info("Found {} unique effect sets across {} chemicals with effects",
+            effectSets.size(),
+            chemicalCount);
+    }
+
+    static List<Path> findFiles(final Path directory, final Kind<?> kind) {
+        final var files = new ArrayList<Path>();
+        final var file = directory.resolve(String.format("%s.json", kind.name));
+        if (Files.isRegularFile(file)) {
+            files.add(file);
+        }
+        final var shardDirectory = directory.resolve(kind.name);
+        if (!Files.isDirectory(shardDirectory)) {
+            return files;
+        }
+        try (final Stream<Path> paths = Files.walk(shardDirectory)) {
+            // Sorting by the normalized relative path keeps the merge order independent of the platform
+            paths.filter(path -> Files.isRegularFile(path) && path.getFileName().toString().endsWith(".json"))
+                .sorted(Comparator.comparing(path -> getRelativeName(directory, path)))
+                .forEach(files::add);
+        }
+        catch (IOException error) {
+            ChemLibCC.LOGGER.error("Could not list configuration shards in {}: {}", shardDirectory, error);
+        }
+        return files;
+    }
+
+    private static <D> CompletableFuture<List<List<D>>> loadAll(final Path directory,
+                                                                final List<Path> files,
+                                                                final Kind<D> kind,
+                                                                final ExecutorService executor) {
+        final var futures = new ArrayList<CompletableFuture<List<D>>>(files.size());
+        for (final var file : files) {
+            final var cache = getCacheFile(directory, file);
+            futures.add(CompletableFuture.supplyAsync(() -> tryLoad(file, cache, kind.decoder, kind.codec),
+                executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    private static <D> List<D> merge(final Path directory,
+                                     final List<Path> files,
+                                     final List<List<D>> results,
+                                     final Kind<D> kind) {
+        final var definitions = new ArrayList<D>();
+        final var sources = new HashMap<String, Path>();
+        for (var i = 0; i < files.size(); i++) {
+            final var file = files.get(i);
+            for (final var definition : results.get(i)) {
+                final var name = kind.nameGetter.apply(definition);
+                final var source = sources.putIfAbsent(name, file);
+                if (source != null) {
+                    ChemLibCC.LOGGER.error("Ignoring duplicate {} '{}' in {}, it is already defined in {}",
+                        kind.singularName,
+                        name,
+                        directory.relativize(file),
+                        directory.relativize(source));
+                    continue;
+                }
+                definitions.add(definition);
+            }
+        }
+        return List.copyOf(definitions);
+    }
+
+    private static void pruneCache(final Path directory, final List<Path> files, final Kind<?> kind) {
+        final var shardCacheDirectory = directory.resolve(CACHE_DIRECTORY).resolve(kind.name);
+        if (!Files.isDirectory(shardCacheDirectory)) {
+            return;
+        }
+        final var expected = new HashSet<Path>();
+        for (final var file : files) {
+            expected.add(getCacheFile(directory, file));
+        }
+        try (final Stream<Path> paths = Files.walk(shardCacheDirectory)) {
+            for (final var path : paths.filter(Files::isRegularFile).toList()) {
+                if (!expected.contains(path)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+        catch (IOException error) {
+            ChemLibCC.LOGGER.warn("Could not prune stale caches in {}: {}", shardCacheDirectory, error);
+        }
+    }
+
+    public static Path getCacheDirectory(final Path directory) {
+        return directory.resolve(CACHE_DIRECTORY);
+    }
+
+    private static Path getCacheFile(final Path directory, final Path file) {
+        return getCacheDirectory(directory).resolve(String.format("%s.bin", getRelativeName(directory, file)));
+    }
+
+    static String getRelativeName(final Path directory, final Path file) {
+        final var relativePath = directory.relativize(file).toString().replace('\\', '/');
+        return relativePath.substring(0, relativePath.length() - ".json".length());
+    }
+
+    private static <D> List<D> tryLoad(final Path path,
+                                       final Path cache,
+                                       final DefinitionDecoder<D> decoder,
+                                       final DefinitionCodec<D> codec) {
+        ChemLibCC.LOGGER.debug("Loading external content configuration from {}", path);
+        try {
+            final var result = ChemicalDefinitionCache.load(path, cache, decoder, codec);
+            for (final var error : result.errors()) {
+                ChemLibCC.LOGGER.error("Invalid configuration in {} at {}", path, error);
+            }
+            if (result.hasErrors()) {
+                ChemLibCC.LOGGER.error("Skipped {} invalid entries in {}", result.invalidEntries(), path);
+            }
+            return result.definitions();
+        }
+        catch (Throwable error) {
+            ChemLibCC.LOGGER.error("Could not load configuration from {}: {}", path, error);
+            return List.of();
+        }
+    }
+
+    record Kind<D>(String name,
+                   String singularName,
+                   DefinitionDecoder<D> decoder,
+                   DefinitionCodec<D> codec,
+                   Function<D, String> nameGetter) {
+    }
+}
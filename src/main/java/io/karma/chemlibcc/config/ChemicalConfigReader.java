@@ -0,0 +1,431 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.config;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.smashingmods.chemlib.api.MatterState;
+import com.smashingmods.chemlib.api.MetalType;
+import io.karma.chemlibcc.util.ColorUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streaming decoder for the elements.json and compounds.json configs.
+ * Every entry is decoded straight into its definition record; entries
+ * which fail to validate are skipped and reported with their location
+ * instead of aborting the entire file.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ChemicalConfigReader {
+    private final JsonReader reader;
+    private final ArrayList<ConfigError> errors = new ArrayList<>();
+    private final HashSet<String> invalidFields = new HashSet<>();
+    private int invalidEntries;
+
+    private ChemicalConfigReader(final Reader reader) {
+        this.reader = new JsonReader(reader);
+        this.reader.setLenient(true);
+    }
+
+    public static DecodeResult<ElementDefinition> readElements(final Reader reader) throws IOException {
+        final var configReader = new ChemicalConfigReader(reader);
+        return configReader.readRoot("elements", configReader::readElement);
+    }
+
+    public static DecodeResult<CompoundDefinition> readCompounds(final Reader reader) throws IOException {
+        final var configReader = new ChemicalConfigReader(reader);
+        return configReader.readRoot("compounds", configReader::readCompound);
+    }
+
+    private <D> DecodeResult<D> readRoot(final String arrayName, final EntryDecoder<D> decoder) throws IOException {
+        final var definitions = new ArrayList<D>();
+        if (expect("root", JsonToken.BEGIN_OBJECT, "an object")) {
+            var hasArray = false;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final var key = reader.nextName();
+                if (!key.equals(arrayName)) {
+                    reader.skipValue();
+                    continue;
+                }
+                if (!expect(key, JsonToken.BEGIN_ARRAY, "an array")) {
+                    continue;
+                }
+                hasArray = true;
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    final var errorCount = errors.size();
+                    final var definition = decoder.decode();
+                    if (definition == null || errors.size() > errorCount) {
+                        invalidEntries++;
+                        continue;
+                    }
+                    definitions.add(definition);
+                }
+                reader.endArray();
+            }
+            reader.endObject();
+            if (!hasArray) {
+                error(String.format("Missing required array '%s'", arrayName));
+            }
+        }
+        return new DecodeResult<>(List.copyOf(definitions), List.copyOf(errors), invalidEntries);
+    }
+
+    private @Nullable ElementDefinition readElement() throws IOException {
+        final var location = location();
+        if (!expect("element", JsonToken.BEGIN_OBJECT, "an object")) {
+            return null;
+        }
+        final var errorCount = errors.size();
+        invalidFields.clear();
+        String name = null;
+        String displayName = null;
+        Integer atomicNumber = null;
+        String abbreviation = null;
+        String groupName = null;
+        Integer group = null;
+        Integer period = null;
+        MatterState matterState = null;
+        MetalType metalType = null;
+        Boolean artificial = null;
+        Integer color = null;
+        Boolean hasItem = null;
+        Boolean hasFluid = null;
+        FluidDefinition fluid = null;
+        List<EffectDefinition> effects = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final var key = reader.nextName();
+            switch (key) {
+                case "name" -> name = readString(key);
+                case "display_name" -> displayName = readString(key);
+                case "atomic_number" -> atomicNumber = readInt(key);
+                case "abbreviation" -> abbreviation = readString(key);
+                case "group_name" -> groupName = readString(key);
+                case "group" -> group = readInt(key);
+                case "period" -> period = readInt(key);
+                case "matter_state" -> matterState = readEnum(key, MatterState.class);
+                case "metal_type" -> metalType = readEnum(key, MetalType.class);
+                case "artificial" -> artificial = readBoolean(key);
+                case "color" -> color = readColor(key);
+                case "has_item" -> hasItem = readBoolean(key);
+                case "has_fluid" -> hasFluid = readBoolean(key);
+                case "fluid_properties" -> fluid = readFluid(key);
+                case "effect" -> effects = readEffects(key);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        require(location, "name", name);
+        require(location, "display_name", displayName);
+        require(location, "atomic_number", atomicNumber);
+        require(location, "abbreviation", abbreviation);
+        require(location, "group_name", groupName);
+        require(location, "group", group);
+        require(location, "period", period);
+        require(location, "matter_state", matterState);
+        require(location, "metal_type", metalType);
+        require(location, "color", color);
+        final var isArtificial = artificial != null && artificial;
+        final var isFluid = matterState == MatterState.LIQUID || matterState == MatterState.GAS;
+        final var hasOwnFluid = hasFluid != null && hasFluid;
+        if (!isArtificial && isFluid && !hasOwnFluid) {
+            require(location, "fluid_properties", fluid);
+        }
+        if (errors.size() > errorCount) {
+            return null;
+        }
+        // @formatter:off
+        return new ElementDefinition(name, displayName, atomicNumber, abbreviation, groupName, group, period,
+            matterState, metalType, isArtificial, color, hasItem != null && hasItem, hasOwnFluid, fluid,
+            effects == null ? List.of() : effects);
+        // @formatter:on
+    }
+
+    private @Nullable CompoundDefinition readCompound() throws IOException {
+        final var location = location();
+        if (!expect("compound", JsonToken.BEGIN_OBJECT, "an object")) {
+            return null;
+        }
+        final var errorCount = errors.size();
+        invalidFields.clear();
+        String name = null;
+        String displayName = null;
+        MatterState matterState = null;
+        String description = null;
+        Integer color = null;
+        LinkedHashMap<String, Integer> components = null;
+        Boolean hasItem = null;
+        Boolean hasFluid = null;
+        FluidDefinition fluid = null;
+        List<EffectDefinition> effects = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final var key = reader.nextName();
+            switch (key) {
+                case "name" -> name = readString(key);
+                case "display_name" -> displayName = readString(key);
+                case "matter_state" -> matterState = readEnum(key, MatterState.class);
+                case "description" -> description = readString(key);
+                case "color" -> color = readColor(key);
+                case "components" -> components = readComponents(key);
+                case "has_item" -> hasItem = readBoolean(key);
+                case "has_fluid" -> hasFluid = readBoolean(key);
+                case "fluid_properties" -> fluid = readFluid(key);
+                case "effect" -> effects = readEffects(key);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        require(location, "name", name);
+        require(location, "display_name", displayName);
+        require(location, "matter_state", matterState);
+        require(location, "color", color);
+        require(location, "components", components);
+        final var isFluid = matterState == MatterState.LIQUID || matterState == MatterState.GAS;
+        final var hasOwnFluid = hasFluid != null && hasFluid;
+        if (isFluid && !hasOwnFluid) {
+            require(location, "fluid_properties", fluid);
+        }
+        if (errors.size() > errorCount) {
+            return null;
+        }
+        // @formatter:off
+        return new CompoundDefinition(name, displayName, matterState, description == null ? "" : description, color,
+            Collections.unmodifiableMap(components), hasItem != null && hasItem, hasOwnFluid, fluid,
+            effects == null ? List.of() : effects);
+        // @formatter:on
+    }
+
+    private @Nullable LinkedHashMap<String, Integer> readComponents(final String field) throws IOException {
+        if (!expect(field, JsonToken.BEGIN_ARRAY, "an array")) {
+            return null;
+        }
+        final var components = new LinkedHashMap<String, Integer>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            final var location = location();
+            if (!expect(field, JsonToken.BEGIN_OBJECT, "an object")) {
+                continue;
+            }
+            String name = null;
+            Integer count = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final var key = reader.nextName();
+                switch (key) {
+                    case "name" -> name = readString(key);
+                    case "count" -> count = readInt(key);
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+            require(location, "name", name);
+            if (name != null) {
+                components.put(name, count == null ? 1 : count);
+            }
+        }
+        reader.endArray();
+        return components;
+    }
+
+    private @Nullable FluidDefinition readFluid(final String field) throws IOException {
+        final var location = location();
+        if (!expect(field, JsonToken.BEGIN_OBJECT, "an object")) {
+            return null;
+        }
+        final var properties = JsonParser.parseReader(reader).getAsJsonObject();
+        final var slopeFindDistance = getInt(location, properties, "slope_find_distance", 4);
+        final var decreasePerBlock = getInt(location, properties, "decrease_per_block", 1);
+        return new FluidDefinition(slopeFindDistance, decreasePerBlock, properties);
+    }
+
+    private List<EffectDefinition> readEffects(final String field) throws IOException {
+        if (!expect(field, JsonToken.BEGIN_ARRAY, "an array")) {
+            return List.of();
+        }
+        final var effects = new ArrayList<EffectDefinition>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            final var location = location();
+            if (!expect(field, JsonToken.BEGIN_OBJECT, "an object")) {
+                continue;
+            }
+            String effectLocation = null;
+            Integer duration = null;
+            Integer amplifier = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final var key = reader.nextName();
+                switch (key) {
+                    case "location" -> effectLocation = readString(key);
+                    case "duration" -> duration = readInt(key);
+                    case "amplifier" -> amplifier = readInt(key);
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+            require(location, "location", effectLocation);
+            require(location, "duration", duration);
+            require(location, "amplifier", amplifier);
+            if (effectLocation != null && duration != null && amplifier != null) {
+                effects.add(new EffectDefinition(effectLocation, duration, amplifier));
+            }
+        }
+        reader.endArray();
+        return EffectDefinition.intern(effects);
+    }
+
+    private @Nullable String readString(final String field) throws IOException {
+        if (!expect(field, JsonToken.STRING, "a string")) {
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    private @Nullable Integer readColor(final String field) throws IOException {
+        final var location = location();
+        final var value = readString(field);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ColorUtils.parseColor(value);
+        }
+        catch (IllegalArgumentException error) {
+            invalid(location, field, error.getMessage());
+            return null;
+        }
+    }
+
+    private @Nullable Boolean readBoolean(final String field) throws IOException {
+        if (!expect(field, JsonToken.BOOLEAN, "a boolean")) {
+            return null;
+        }
+        return reader.nextBoolean();
+    }
+
+    private @Nullable Integer readInt(final String field) throws IOException {
+        final var token = reader.peek();
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+            mismatch(field, "an integer", token);
+            return null;
+        }
+        final var location = location();
+        try {
+            return reader.nextInt();
+        }
+        catch (NumberFormatException error) {
+            reader.skipValue();
+            invalid(location, field, String.format("Expected '%s' to be an integer", field));
+            return null;
+        }
+    }
+
+    private @Nullable <E extends Enum<E>> E readEnum(final String field, final Class<E> type) throws IOException {
+        final var location = location();
+        final var value = readString(field);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException error) {
+            invalid(location,
+                field,
+                String.format("Unknown value '%s' for '%s', expected one of %s",
+                    value,
+                    field,
+                    Arrays.toString(type.getEnumConstants()).toLowerCase(Locale.ROOT)));
+            return null;
+        }
+    }
+
+    private int getInt(final String location, final JsonObject object, final String field, final int defaultValue) {
+        if (!object.has(field)) {
+            return defaultValue;
+        }
+        try {
+            return object.get(field).getAsInt();
+        }
+        catch (RuntimeException error) {
+            invalid(location, field, String.format("Expected '%s' to be an integer", field));
+            return defaultValue;
+        }
+    }
+
+    private boolean expect(final String field, final JsonToken expected, final String description) throws IOException {
+        final var token = reader.peek();
+        if (token == expected) {
+            return true;
+        }
+        mismatch(field, description, token);
+        return false;
+    }
+
+    private void mismatch(final String field, final String description, final JsonToken token) throws IOException {
+        invalid(location(), field, String.format("Expected '%s' to be %s but found %s", field, description, token));
+        reader.skipValue();
+    }
+
+    private void require(final String location, final String field, final @Nullable Object value) {
+        if (value != null || invalidFields.contains(field)) {
+            return;
+        }
+        errors.add(new ConfigError(location, String.format("Missing required field '%s'", field)));
+    }
+
+    private void invalid(final String location, final String field, final String message) {
+        invalidFields.add(field);
+        errors.add(new ConfigError(location, message));
+    }
+
+    private void error(final String message) {
+        errors.add(new ConfigError(location(), message));
+    }
+
+    private String location() {
+        // JsonReader only exposes its line and column through toString
+        final var description = reader.toString();
+        final var index = description.indexOf(" at ");
+        return index < 0 ? reader.getPath() : description.substring(index + 4);
+    }
+
+    @FunctionalInterface
+    private interface EntryDecoder<D> {
+        @Nullable D decode() throws IOException;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.config;
+
+import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.util.StartupProfiler;
+import io.karma.chemlibcc.util.StartupProfiler.Phase;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiled binary form of a chemical config file. The cache is keyed by
+ * the modification time and size of the source JSON, which lets an
+ * unchanged file be loaded without reading it at all. When those differ,
+ * the SHA-256 of the source decides whether the cache can still be used;
+ * otherwise the JSON is decoded again and the cache is rebuilt.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ChemicalDefinitionCache {
+    public static final int FORMAT_VERSION = 3;
+    private static final int MAGIC = 0x43434344; // CCCD
+
+    // @formatter:off
+    private ChemicalDefinitionCache() {}
+    // @formatter:on
+
+    public static <D> DecodeResult<D> load(final Path source,
+                                           final Path cache,
+                                           final DefinitionDecoder<D> decoder,
+                                           final DefinitionCodec<D> codec) throws IOException {
+        final var attributes = Files.readAttributes(source, BasicFileAttributes.class);
+        final var modifiedTime = attributes.lastModifiedTime().toMillis();
+        final var size = attributes.size();
+        byte[] bytes = null;
+        byte[] hash = null;
+        if (Files.exists(cache)) {
+            try {
+                final var cacheStartTime = System.nanoTime();
+                List<D> definitions = null;
+                var isStale = false;
+                try (final var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cache)))) {
+                    final var header = readHeader(input);
+                    if (header != null) {
+                        isStale = header.modifiedTime != modifiedTime || header.size != size;
+                        if (isStale) {
+                            bytes = readSource(source);
+                            hash = hash(bytes);
+                        }
+                        else {
+                            hash = header.hash;
+                        }
+                        if (Arrays.equals(header.hash, hash)) {
+                            definitions = readDefinitions(input, codec);
+                        }
+                    }
+                }
+                StartupProfiler.record(Phase.CACHE_READ, cacheStartTime);
+                if (definitions != null) {
+                    ChemLibCC.LOGGER.debug("Using compiled definitions from {}", cache);
+                    // The file was touched but not changed, so refresh the timestamp to skip hashing next time
+                    if (isStale) {
+                        tryWrite(cache, new Header(modifiedTime, size, hash), codec, definitions);
+                    }
+                    return new DecodeResult<>(definitions, List.of(), 0);
+                }
+            }
+            catch (Throwable error) {
+                ChemLibCC.LOGGER.warn("Could not read definition cache {}, rebuilding: {}", cache, error);
+            }
+        }
+        if (bytes == null) {
+            bytes = readSource(source);
+            hash = hash(bytes);
+        }
+        final var decodeStartTime = System.nanoTime();
+        final DecodeResult<D> result;
+        try (final var reader = new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            result = decoder.decode(reader);
+        }
+        StartupProfiler.record(Phase.JSON_DECODE, decodeStartTime);
+        // Invalid files are never cached, so their errors are reported on every launch
+        if (result.hasErrors()) {
+            Files.deleteIfExists(cache);
+            return result;
+        }
+        tryWrite(cache, new Header(modifiedTime, size, hash), codec, result.definitions());
+        return result;
+    }
+
+    private static byte[] readSource(final Path source) throws IOException {
+        final var startTime = System.nanoTime();
+        final var bytes = Files.readAllBytes(source);
+        StartupProfiler.record(Phase.FILE_READ, startTime);
+        return bytes;
+    }
+
+    private static @Nullable Header readHeader(final DataInputStream input) throws IOException {
+        if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+            return null;
+        }
+        final var modifiedTime = input.readLong();
+        final var size = input.readLong();
+        final var hash = new byte[input.readUnsignedByte()];
+        input.readFully(hash);
+        return new Header(modifiedTime, size, hash);
+    }
+
+    static <D> List<D> readDefinitions(final DataInputStream input,
+                                       final DefinitionCodec<D> codec) throws IOException {
+        final var count = input.readInt();
+        final var definitions = new ArrayList<D>(count);
+        for (var i = 0; i < count; i++) {
+            definitions.add(codec.read(input));
+        }
+        return List.copyOf(definitions);
+    }
+
+    static <D> void writeDefinitions(final DataOutputStream output,
+                                     final DefinitionCodec<D> codec,
+                                     final List<D> definitions) throws IOException {
+        output.writeInt(definitions.size());
+        for (final var definition : definitions) {
+            codec.write(output, definition);
+        }
+    }
+
+    private static <D> void tryWrite(final Path cache,
+                                     final Header header,
+                                     final DefinitionCodec<D> codec,
+                                     final List<D> definitions) {
+        try {
+            write(cache, header, codec, definitions);
+        }
+        catch (IOException error) {
+            ChemLibCC.LOGGER.warn("Could not write definition cache {}: {}", cache, error);
+        }
+    }
+
+    private static <D> void write(final Path cache,
+                                  final Header header,
+                                  final DefinitionCodec<D> codec,
+                                  final List<D> definitions) throws IOException {
+        Files.createDirectories(cache.getParent());
+        final var tempFile = cache.resolveSibling(String.format("%s.tmp", cache.getFileName()));
+        try (final var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeLong(header.modifiedTime);
+            output.writeLong(header.size);
+            output.writeByte(header.hash.length);
+            output.write(header.hash);
+            writeDefinitions(output, codec, definitions);
+        }
+        Files.move(tempFile, cache, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static byte[] hash(final byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        }
+        catch (NoSuchAlgorithmException error) {
+            throw new IllegalStateException("SHA-256 is not available", error);
+        }
+    }
+
+    private record Header(long modifiedTime, long size, byte[] hash) {
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.config;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public record ChemicalDefinitions(List<ElementDefinition> elements, List<CompoundDefinition> compounds) {
+    private static final Comparator<ElementDefinition> ELEMENT_ORDER = Comparator.comparingInt(
+        ElementDefinition::atomicNumber).thenComparing(ElementDefinition::name);
+    private static final Comparator<CompoundDefinition> COMPOUND_ORDER = Comparator.comparing(CompoundDefinition::name);
+
+    /**
+     * @return a copy with the elements ordered by their atomic number and the compounds by their name,
+     * so the registration order doesn't depend on the order of the entries and files in the config.
+     */
+    public ChemicalDefinitions sorted() {
+        return new ChemicalDefinitions(elements.stream().sorted(ELEMENT_ORDER).toList(),
+            compounds.stream().sorted(COMPOUND_ORDER).toList());
+    }
+}
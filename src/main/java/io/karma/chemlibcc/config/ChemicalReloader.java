@@ -0,0 +1,335 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.config;
+
+import com.smashingmods.chemlib.ChemLib;
+import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.item.GeneratedFluidType;
+import io.karma.chemlibcc.util.ChemicalPropertyStore;
+import io.karma.chemlibcc.util.ReloadableValue;
+import net.minecraft.client.Minecraft;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.fml.loading.FMLEnvironment;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Re-reads the chemical configs at runtime and applies every change which
+ * doesn't require re-registration to the existing items and fluids.
+ * Structural changes are compared against the definitions registered at
+ * startup and reported as requiring a restart. The configs are read on
+ * the calling thread, the changes are applied on the main thread since
+ * items and fluids read their properties there without synchronization.
+ * Dedicated servers report changes which only affect rendering as
+ * client-side only, they never reach the clients from there.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ChemicalReloader {
+    // @formatter:off
+    private static final List<Field<ElementDefinition>> ELEMENT_FIELDS = List.of(
+        new Field<>("display_name", ElementDefinition::displayName, true),
+        new Field<>("color", ElementDefinition::color, true),
+        new Field<>("effect", ElementDefinition::effects));
+    private static final List<Field<ElementDefinition>> ELEMENT_STRUCTURE_FIELDS = List.of(
+        new Field<>("atomic_number", ElementDefinition::atomicNumber),
+        new Field<>("abbreviation", ElementDefinition::abbreviation),
+        new Field<>("group_name", ElementDefinition::groupName),
+        new Field<>("group", ElementDefinition::group),
+        new Field<>("period", ElementDefinition::period),
+        new Field<>("matter_state", ElementDefinition::matterState),
+        new Field<>("metal_type", ElementDefinition::metalType),
+        new Field<>("artificial", ElementDefinition::artificial),
+        new Field<>("has_item", ElementDefinition::hasItem),
+        new Field<>("has_fluid", ElementDefinition::hasFluid),
+        new Field<>("fluid_properties", ElementDefinition::fluid));
+    private static final List<Field<CompoundDefinition>> COMPOUND_FIELDS = List.of(
+        new Field<>("display_name", CompoundDefinition::displayName, true),
+        new Field<>("description", CompoundDefinition::description, true),
+        new Field<>("color", CompoundDefinition::color, true),
+        new Field<>("effect", CompoundDefinition::effects));
+    private static final List<Field<CompoundDefinition>> COMPOUND_STRUCTURE_FIELDS = List.of(
+        new Field<>("matter_state", CompoundDefinition::matterState),
+        new Field<>("components", CompoundDefinition::components),
+        new Field<>("has_item", CompoundDefinition::hasItem),
+        new Field<>("has_fluid", CompoundDefinition::hasFluid),
+        new Field<>("fluid_properties", CompoundDefinition::fluid));
+    // @formatter:on
+    private static final boolean IS_DEDICATED_SERVER = FMLEnvironment.dist.isDedicatedServer();
+
+    private static volatile ChemicalDefinitions registered = new ChemicalDefinitions(List.of(), List.of());
+    private static volatile ChemicalDefinitions current = registered;
+    private static volatile ChemicalValidator.References references = new ChemicalValidator.References();
+
+    // @formatter:off
+    private ChemicalReloader() {}
+    // @formatter:on
+
+    /**
+     * @param references the chemicals registered by ChemLib itself, which reloaded configs are validated against.
+     */
+    public static void setRegistered(final ChemicalDefinitions definitions,
+                                     final ChemicalValidator.References references) {
+        registered = definitions;
+        current = definitions;
+        ChemicalReloader.references = references;
+    }
+
+    /**
+     * @return the registered definitions with every applied reload merged in, which is what the game actually runs.
+     */
+    public static ChemicalDefinitions getCurrent() {
+        return current;
+    }
+
+    /**
+     * Sorts and validates the given definitions, logs all problems at once
+     * and drops every invalid chemical along with the compounds built from it.
+     * Sorting first makes the reported problems, and which of two colliding
+     * chemicals is kept, independent of the order of the config files.
+     *
+     * @return the valid definitions in registration order.
+     */
+    public static ChemicalDefinitions prepare(final ChemicalDefinitions definitions,
+                                              final ChemicalValidator.References references) {
+        final var sorted = definitions.sorted();
+        final var report = ChemicalValidator.validate(sorted, references, Map.of());
+        for (final var warning : report.warnings()) {
+            ChemLibCC.LOGGER.warn("Suspicious configuration at {}", warning);
+        }
+        if (!report.hasErrors()) {
+            return sorted;
+        }
+        for (final var error : report.errors()) {
+            ChemLibCC.LOGGER.error("Invalid configuration at {}", error);
+        }
+        ChemLibCC.LOGGER.error("Skipping {} chemicals which can't be registered: {}",
+            report.invalidChemicals().size(),
+            String.join(", ", new TreeSet<>(report.invalidChemicals())));
+        return ChemicalValidator.removeInvalid(sorted, report);
+    }
+
+    /**
+     * @return the report of the reload, completed once the changes have been applied on the main thread.
+     */
+    public static CompletableFuture<ReloadReport> reload() {
+        final var definitions = prepare(ChemicalConfigLoader.load(ChemicalConfigLoader.getConfigDirectory()),
+            references);
+        final var executor = getMainThreadExecutor();
+        if (executor == null) {
+            // Nothing is ticking or rendering yet, so the changes can be applied right away
+            return CompletableFuture.completedFuture(apply(definitions));
+        }
+        return CompletableFuture.supplyAsync(() -> apply(definitions), executor);
+    }
+
+    private static @Nullable Executor getMainThreadExecutor() {
+        return DistExecutor.unsafeRunForDist(() -> Minecraft::getInstance,
+            () -> ServerLifecycleHooks::getCurrentServer);
+    }
+
+    private static synchronized ReloadReport apply(final ChemicalDefinitions definitions) {
+        final var applied = new ArrayList<String>();
+        final var clientOnly = new ArrayList<String>();
+        final var restartRequired = new ArrayList<String>();
+        final var changes = new Changes(applied, clientOnly, restartRequired);
+        // @formatter:off
+        final var elements = diff("element", registered.elements(), current.elements(), definitions.elements(),
+            ElementDefinition::name, ELEMENT_FIELDS, ELEMENT_STRUCTURE_FIELDS, ChemicalReloader::applyElement,
+            ChemicalReloader::mergeElement, changes);
+        final var compounds = diff("compound", registered.compounds(), current.compounds(), definitions.compounds(),
+            CompoundDefinition::name, COMPOUND_FIELDS, COMPOUND_STRUCTURE_FIELDS, ChemicalReloader::applyCompound,
+            ChemicalReloader::mergeCompound, changes);
+        // @formatter:on
+        // Structural changes only take effect after a restart, so only the applied fields are merged
+        current = new ChemicalDefinitions(elements, compounds);
+        if (!applied.isEmpty() || !clientOnly.isEmpty()) {
+            ContentFingerprint.update(current);
+            ChemicalPropertyStore.get().publish();
+            ReloadableValue.invalidateAll();
+        }
+        applied.forEach(change -> ChemLibCC.LOGGER.info("Reloaded {}", change));
+        clientOnly.forEach(change -> ChemLibCC.LOGGER.info("Clients need the updated config to apply {}", change));
+        restartRequired.forEach(change -> ChemLibCC.LOGGER.warn("Restart required to apply {}", change));
+        return new ReloadReport(List.copyOf(applied), List.copyOf(clientOnly), List.copyOf(restartRequired));
+    }
+
+    /**
+     * @return the registered definitions with the reloadable fields of all applied definitions merged in.
+     */
+    private static <D> List<D> diff(final String kind,
+                                    final List<D> registered,
+                                    final List<D> current,
+                                    final List<D> definitions,
+                                    final Function<D, String> nameGetter,
+                                    final List<Field<D>> fields,
+                                    final List<Field<D>> structureFields,
+                                    final Applier<D> applier,
+                                    final BinaryOperator<D> merger,
+                                    final Changes changes) {
+        final var registeredByName = byName(registered, nameGetter);
+        final var currentByName = byName(current, nameGetter);
+        for (final var definition : definitions) {
+            final var name = nameGetter.apply(definition);
+            final var registeredDefinition = registeredByName.remove(name);
+            if (registeredDefinition == null) {
+                changes.restartRequired.add(String.format("added %s %s", kind, name));
+                continue;
+            }
+            final var structureChanges = changedFields(registeredDefinition, definition, structureFields);
+            if (!structureChanges.isEmpty()) {
+                changes.restartRequired.add(String.format("%s %s: %s", kind, name, describe(structureChanges)));
+            }
+            final var currentDefinition = currentByName.getOrDefault(name, registeredDefinition);
+            final var changedFields = changedFields(currentDefinition, definition, fields);
+            if (changedFields.isEmpty()) {
+                continue;
+            }
+            if (!applier.apply(definition)) {
+                ChemLibCC.LOGGER.warn("Could not find registered {} {}", kind, name);
+                continue;
+            }
+            currentByName.put(name, merger.apply(registeredDefinition, definition));
+            final var serverFields = new ArrayList<Field<D>>();
+            final var clientFields = new ArrayList<Field<D>>();
+            for (final var field : changedFields) {
+                (IS_DEDICATED_SERVER && field.isClientSide ? clientFields : serverFields).add(field);
+            }
+            if (!serverFields.isEmpty()) {
+                changes.applied.add(String.format("%s %s: %s", kind, name, describe(serverFields)));
+            }
+            if (!clientFields.isEmpty()) {
+                changes.clientOnly.add(String.format("%s %s: %s", kind, name, describe(clientFields)));
+            }
+        }
+        for (final var name : registeredByName.keySet()) {
+            changes.restartRequired.add(String.format("removed %s %s", kind, name));
+        }
+        final var merged = new ArrayList<D>(registered.size());
+        for (final var definition : registered) {
+            merged.add(currentByName.getOrDefault(nameGetter.apply(definition), definition));
+        }
+        return List.copyOf(merged);
+    }
+
+    private static <D> HashMap<String, D> byName(final List<D> definitions, final Function<D, String> nameGetter) {
+        final var definitionsByName = new HashMap<String, D>(definitions.size());
+        for (final var definition : definitions) {
+            definitionsByName.put(nameGetter.apply(definition), definition);
+        }
+        return definitionsByName;
+    }
+
+    private static <D> List<Field<D>> changedFields(final D previous, final D next, final List<Field<D>> fields) {
+        final var changes = new ArrayList<Field<D>>();
+        for (final var field : fields) {
+            if (!Objects.equals(field.getter.apply(previous), field.getter.apply(next))) {
+                changes.add(field);
+            }
+        }
+        return changes;
+    }
+
+    private static <D> String describe(final List<Field<D>> fields) {
+        return String.join(", ", fields.stream().map(Field::name).toList());
+    }
+
+    private static boolean applyElement(final ElementDefinition definition) {
+        final var store = ChemicalPropertyStore.get();
+        final var id = store.getId(definition.name());
+        if (id < 0) {
+            return false;
+        }
+        final var color = definition.color();
+        store.setDisplayName(id, definition.displayName());
+        store.setColor(id, color);
+        store.setEffects(id, definition.effects());
+        applyFluidTint(definition.name(), color);
+        return true;
+    }
+
+    private static boolean applyCompound(final CompoundDefinition definition) {
+        final var store = ChemicalPropertyStore.get();
+        final var id = store.getId(definition.name());
+        if (id < 0) {
+            return false;
+        }
+        final var color = definition.color();
+        store.setDisplayName(id, definition.displayName());
+        store.setDescription(id, definition.description());
+        store.setColor(id, color);
+        store.setEffects(id, definition.effects());
+        applyFluidTint(definition.name(), color);
+        return true;
+    }
+
+    private static ElementDefinition mergeElement(final ElementDefinition registered,
+                                                  final ElementDefinition definition) {
+        // @formatter:off
+        return new ElementDefinition(registered.name(), definition.displayName(), registered.atomicNumber(),
+            registered.abbreviation(), registered.groupName(), registered.group(), registered.period(),
+            registered.matterState(), registered.metalType(), registered.artificial(), definition.color(),
+            registered.hasItem(), registered.hasFluid(), registered.fluid(), definition.effects());
+        // @formatter:on
+    }
+
+    private static CompoundDefinition mergeCompound(final CompoundDefinition registered,
+                                                    final CompoundDefinition definition) {
+        // @formatter:off
+        return new CompoundDefinition(registered.name(), definition.displayName(), registered.matterState(),
+            definition.description(), definition.color(), registered.components(), registered.hasItem(),
+            registered.hasFluid(), registered.fluid(), definition.effects());
+        // @formatter:on
+    }
+
+    private static void applyFluidTint(final String name, final int color) {
+        final var fluidType = ForgeRegistries.FLUID_TYPES.get().getValue(new ResourceLocation(ChemLib.MODID, name));
+        if (fluidType instanceof GeneratedFluidType generatedFluidType) {
+            generatedFluidType.setTintColor(color);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Applier<D> {
+        boolean apply(final D definition);
+    }
+
+    /**
+     * @param isClientSide whether the field only affects rendering, so changing it on a server has no visible effect.
+     */
+    private record Field<D>(String name, Function<D, Object> getter, boolean isClientSide) {
+        private Field(final String name, final Function<D, Object> getter) {
+            this(name, getter, false);
+        }
+    }
+
+    private record Changes(List<String> applied, List<String> clientOnly, List<String> restartRequired) {
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.config;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checks chemical definitions for problems which the decoder can't detect
+ * on its own: duplicate names, atomic number collisions, unresolvable or
+ * cyclic components and fluid properties out of range.
+ * <p>
+ * Also usable without launching the game through {@link #main(String[])},
+ * which decodes every config below a directory with the same decoder as
+ * the mod and exits with 1 if there are any errors.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ChemicalValidator {
+    /**
+     * The highest atomic number an element may have, which bounds the size of the tables indexed by it.
+     */
+    public static final int MAX_ATOMIC_NUMBER = 1024;
+    private static final int MIN_FLOW_VALUE = 1;
+    private static final int MAX_FLOW_VALUE = 8;
+    private static final int MAX_LIGHT_LEVEL = 15;
+    private static final String[] REFERENCE_RESOURCES = {"/data/chemlib/elements.json", "/data/chemlib/compounds.json"};
+
+    // @formatter:off
+    private ChemicalValidator() {}
+    // @formatter:on
+
+    /**
+     * Usage: {@code ChemicalValidator <config directory> [--reference <elements or compounds json>]...}
+     * <p>
+     * ChemLib's own chemicals are picked up from the classpath if available, so
+     * components referring to them can be resolved.
+     */
+    public static void main(final String[] args) {
+        Path directory = null;
+        final var references = new References();
+        try {
+            for (var i = 0; i < args.length; i++) {
+                if (args[i].equals("--reference") && i + 1 < args.length) {
+                    try (final var reader = Files.newBufferedReader(Path.of(args[++i]), StandardCharsets.UTF_8)) {
+                        references.read(reader);
+                    }
+                }
+                else if (directory == null) {
+                    directory = Path.of(args[i]);
+                }
+                else {
+                    directory = null;
+                    break;
+                }
+            }
+            references.readClasspath(ChemicalValidator.class);
+        }
+        catch (IOException | RuntimeException error) {
+            System.err.printf("Could not read reference chemicals: %s%n", error);
+            System.exit(2);
+        }
+        if (directory == null || !Files.isDirectory(directory)) {
+            System.err.println("Usage: ChemicalValidator <config directory> [--reference <file>]...");
+            System.exit(2);
+        }
+
+        final var startTime = System.nanoTime();
+        final var report = validateDirectory(directory, references);
+        report.warnings().forEach(warning -> System.out.printf("WARNING %s%n", warning));
+        report.errors().forEach(error -> System.out.printf("ERROR %s%n", error));
+        System.out.printf("Validated %s in %dms: %d errors, %d warnings%n",
+            directory,
+            (System.nanoTime() - startTime) / 1_000_000L,
+            report.errors().size(),
+            report.warnings().size());
+        System.exit(report.hasErrors() ? 1 : 0);
+    }
+
+    /**
+     * Decodes and validates every element and compound config below the given directory, without using the cache.
+     */
+    public static ValidationReport validateDirectory(final Path directory, final References references) {
+        final var errors = new ArrayList<ConfigError>();
+        final var sources = new HashMap<String, String>();
+        final var elements = decodeAll(directory, ChemicalConfigLoader.ELEMENTS, sources, errors);
+        final var compounds = decodeAll(directory, ChemicalConfigLoader.COMPOUNDS, sources, errors);
+        final var report = validate(new ChemicalDefinitions(elements, compounds), references, sources);
+        errors.addAll(report.errors());
+        return new ValidationReport(List.copyOf(errors), report.warnings(), report.invalidChemicals());
+    }
+
+    private static <D> List<D> decodeAll(final Path directory,
+                                         final ChemicalConfigLoader.Kind<D> kind,
+                                         final Map<String, String> sources,
+                                         final List<ConfigError> errors) {
+        final var definitions = new ArrayList<D>();
+        for (final var file : ChemicalConfigLoader.findFiles(directory, kind)) {
+            final var fileName = directory.relativize(file).toString().replace('\\', '/');
+            try (final var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                final var result = kind.decoder().decode(reader);
+                for (final var error : result.errors()) {
+                    errors.add(new ConfigError(String.format("%s at %s", fileName, error.location()), error.message()));
+                }
+                for (final var definition : result.definitions()) {
+                    // Like the loader, only the first definition of every name is kept
+                    final var name = kind.nameGetter().apply(definition);
+                    final var source = sources.putIfAbsent(name, fileName);
+                    if (source != null) {
+                        errors.add(new ConfigError(String.format("%s %s '%s'", fileName, kind.singularName(), name),
+                            String.format("Duplicate %s, it is already defined in %s", kind.singularName(), source)));
+                        continue;
+                    }
+                    definitions.add(definition);
+                }
+            }
+            catch (IOException | RuntimeException error) {
+                errors.add(new ConfigError(fileName, String.format("Could not read file: %s", error)));
+            }
+        }
+        return definitions;
+    }
+
+    /**
+     * @param references the chemicals which exist besides the given definitions.
+     * @param sources    the file every chemical was defined in, used to locate problems.
+     */
+    public static ValidationReport validate(final ChemicalDefinitions definitions,
+                                            final References references,
+                                            final Map<String, String> sources) {
+        final var validation = new Validation(references, sources);
+        validation.checkElements(definitions.elements());
+        validation.checkCompounds(definitions.compounds());
+        validation.propagateInvalid();
+        return new ValidationReport(List.copyOf(validation.errors),
+            List.copyOf(validation.warnings),
+            Set.copyOf(validation.invalid));
+    }
+
+    /**
+     * @return the given definitions without all chemicals the report marks as invalid.
+     */
+    public static ChemicalDefinitions removeInvalid(final ChemicalDefinitions definitions,
+                                                    final ValidationReport report) {
+        final var invalid = report.invalidChemicals();
+        if (invalid.isEmpty()) {
+            return definitions;
+        }
+        final var elements = definitions.elements()
+            .stream()
+            .filter(element -> !invalid.contains(element.name()))
+            .toList();
+        final var compounds = definitions.compounds()
+            .stream()
+            .filter(compound -> !invalid.contains(compound.name()))
+            .toList();
+        return new ChemicalDefinitions(elements, compounds);
+    }
+
+    /**
+     * The names and atomic numbers of chemicals which are defined elsewhere, usually by ChemLib itself.
+     */
+    public static final class References {
+        private final HashSet<String> names = new HashSet<>();
+        private final HashMap<Integer, String> atomicNumbers = new HashMap<>();
+        private boolean isEmpty = true;
+
+        public void add(final String name, final int atomicNumber) {
+            names.add(name);
+            if (atomicNumber > 0) {
+                atomicNumbers.putIfAbsent(atomicNumber, name);
+            }
+            isEmpty = false;
+        }
+
+        public void add(final String name) {
+            add(name, 0);
+        }
+
+        public boolean contains(final String name) {
+            return names.contains(name);
+        }
+
+        /**
+         * @return whether no chemicals are known, in which case unknown components can't be told apart from typos.
+         */
+        public boolean isEmpty() {
+            return isEmpty;
+        }
+
+        /**
+         * Reads the names of all chemicals in a file with the layout of elements.json or compounds.json.
+         */
+        public void read(final Reader reader) {
+            final var root = JsonParser.parseReader(reader).getAsJsonObject();
+            for (final var key : List.of("elements", "compounds")) {
+                if (!root.has(key)) {
+                    continue;
+                }
+                for (final JsonElement entry : root.getAsJsonArray(key)) {
+                    final var object = entry.getAsJsonObject();
+                    if (object.has("name")) {
+                        final var atomicNumber = object.has("atomic_number") ? object.get("atomic_number").getAsInt() : 0;
+                        add(object.get("name").getAsString(), atomicNumber);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Reads ChemLib's own elements.json and compounds.json, if they are available.
+         *
+         * @param owner a class whose module contains ChemLib's resources.
+         */
+        public void readClasspath(final Class<?> owner) throws IOException {
+            for (final var resource : REFERENCE_RESOURCES) {
+                final var stream = owner.getResourceAsStream(resource);
+                if (stream == null) {
+                    continue;
+                }
+                try (final var reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+                    read(reader);
+                }
+            }
+        }
+    }
+
+    private static final class Validation {
+        private final References references;
+        private final Map<String, String> sources;
+        private final ArrayList<ConfigError> errors = new ArrayList<>();
+        private final ArrayList<ConfigError> warnings = new ArrayList<>();
+        private final HashMap<String, String> kinds = new HashMap<>();
+        private final LinkedHashMap<String, CompoundDefinition> compounds = new LinkedHashMap<>();
+        private final HashSet<String> invalid = new HashSet<>();
+
+        private Validation(final References references, final Map<String, String> sources) {
+            this.references = references;
+            this.sources = sources;
+        }
+
+        private void checkElements(final List<ElementDefinition> elements) {
+            final var atomicNumbers = new HashMap<Integer, String>();
+            for (final var element : elements) {
+                final var name = element.name();
+                if (!checkName("element", name)) {
+                    continue;
+                }
+                final var atomicNumber = element.atomicNumber();
+                if (atomicNumber < 1) {
+                    error("element", name, String.format("Atomic number %d has to be positive", atomicNumber));
+                }
+                else if (atomicNumber > MAX_ATOMIC_NUMBER) {
+                    error("element", name, String.format("Atomic number %d may be at most %d",
+                        atomicNumber,
+                        MAX_ATOMIC_NUMBER));
+                }
+                else {
+                    final var existing = atomicNumbers.putIfAbsent(atomicNumber, name);
+                    final var reference = references.atomicNumbers.get(atomicNumber);
+                    if (existing != null) {
+                        error("element", name, String.format("Atomic number %d is already used by '%s'",
+                            atomicNumber,
+                            existing));
+                    }
+                    else if (reference != null) {
+                        error("element", name, String.format("Atomic number %d is already used by ChemLib's '%s'",
+                            atomicNumber,
+                            reference));
+                    }
+                }
+                checkFluid("element", name, element.fluid());
+            }
+        }
+
+        private void checkCompounds(final List<CompoundDefinition> definitions) {
+            for (final var compound : definitions) {
+                if (checkName("compound", compound.name())) {
+                    compounds.put(compound.name(), compound);
+                }
+            }
+            for (final var compound : compounds.values()) {
+                final var name = compound.name();
+                if (compound.components().isEmpty()) {
+                    error("compound", name, "Compounds need at least one component");
+                }
+                for (final var component : compound.components().entrySet()) {
+                    if (component.getValue() < 1) {
+                        error("compound", name, String.format("Component '%s' has to occur at least once",
+                            component.getKey()));
+                    }
+                    if (kinds.containsKey(component.getKey()) || references.contains(component.getKey())) {
+                        continue;
+                    }
+                    final var message = String.format("Unknown component '%s'", component.getKey());
+                    if (references.isEmpty()) {
+                        // Without ChemLib's chemicals, the component may still be one of them
+                        warnings.add(new ConfigError(locate("compound", name), message));
+                    }
+                    else {
+                        error("compound", name, message);
+                    }
+                }
+                checkFluid("compound", name, compound.fluid());
+            }
+            checkCycles();
+        }
+
+        private boolean checkName(final String kind, final String name) {
+            final var existing = kinds.putIfAbsent(name, kind);
+            if (existing != null) {
+                error(kind, name, String.format("The name '%s' is already used by another %s", name, existing));
+                return false;
+            }
+            if (references.contains(name)) {
+                error(kind, name, String.format("The name '%s' is already used by ChemLib", name));
+                return false;
+            }
+            return true;
+        }
+
+        private void checkFluid(final String kind, final String name, final @Nullable FluidDefinition fluid) {
+            if (fluid == null) {
+                return;
+            }
+            checkRange(kind, name, "slope_find_distance", fluid.slopeFindDistance(), MIN_FLOW_VALUE, MAX_FLOW_VALUE);
+            checkRange(kind, name, "decrease_per_block", fluid.decreasePerBlock(), MIN_FLOW_VALUE, MAX_FLOW_VALUE);
+            final var properties = fluid.properties();
+            checkProperty(kind, name, properties, "luminosity", 0, MAX_LIGHT_LEVEL);
+            checkProperty(kind, name, properties, "light_level", 0, MAX_LIGHT_LEVEL);
+            checkProperty(kind, name, properties, "viscosity", 0, Integer.MAX_VALUE);
+            checkProperty(kind, name, properties, "temperature", 0, Integer.MAX_VALUE);
+        }
+
+        private void checkProperty(final String kind,
+                                   final String name,
+                                   final JsonObject properties,
+                                   final String field,
+                                   final int min,
+                                   final int max) {
+            if (!properties.has(field)) {
+                return;
+            }
+            try {
+                checkRange(kind, name, field, properties.get(field).getAsInt(), min, max);
+            }
+            catch (RuntimeException error) {
+                error(kind, name, String.format("Expected '%s' to be an integer", field));
+            }
+        }
+
+        private void checkRange(final String kind,
+                                final String name,
+                                final String field,
+                                final int value,
+                                final int min,
+                                final int max) {
+            if (value < min || value > max) {
+                // @formatter:off
+                final var range = max == Integer.MAX_VALUE
+                    ? String.format("at least %d", min)
+                    : String.format("between %d and %d", min, max);
+                // @formatter:on
+                error(kind, name, String.format("Expected '%s' to be %s but found %d", field, range, value));
+            }
+        }
+
+        private void checkCycles() {
+            final var finished = new HashSet<String>();
+            for (final var name : compounds.keySet()) {
+                checkCycles(name, new LinkedHashSet<>(), finished);
+            }
+        }
+
+        private void checkCycles(final String name, final LinkedHashSet<String> path, final Set<String> finished) {
+            if (finished.contains(name) || !compounds.containsKey(name)) {
+                return;
+            }
+            if (!path.add(name)) {
+                final var cycle = new ArrayList<>(path.stream().dropWhile(entry -> !entry.equals(name)).toList());
+                cycle.add(name);
+                error("compound", name, String.format("Compound contains itself: %s", String.join(" -> ", cycle)));
+                return;
+            }
+            for (final var component : compounds.get(name).components().keySet()) {
+                checkCycles(component, path, finished);
+            }
+            path.remove(name);
+            finished.add(name);
+        }
+
+        /**
+         * Marks every compound with an invalid component as invalid as well, since it can't be registered either.
+         */
+        private void propagateInvalid() {
+            var hasChanged = true;
+            while (hasChanged) {
+                hasChanged = false;
+                for (final var compound : compounds.values()) {
+                    if (invalid.contains(compound.name())) {
+                        continue;
+                    }
+                    for (final var component : compound.components().keySet()) {
+                        if (invalid.contains(component)) {
+                            error("compound", compound.name(), String.format("Component '%s' is invalid", component));
+                            hasChanged = true;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        private void error(final String kind, final String name, final String message) {
+            errors.add(new ConfigError(locate(kind, name), message));
+            invalid.add(name);
+        }
+
+        private String locate(final String kind, final String name) {
+            final var source = sources.get(name);
+            return source == null ? String.format("%s '%s'", kind, name) : String.format("%s %s '%s'",
+                source,
+                kind,
+                name);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.config;
+
+import io.karma.chemlibcc.ChemLibCC;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Optional watcher which reloads the chemical definitions whenever
+ * one of the configs or shards changes. Enabled with -Dchemlibcc.watchConfig=true.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ConfigWatcher implements Runnable {
+    private static final long DEBOUNCE_MILLIS = 500;
+    private final Path directory;
+
+    private ConfigWatcher(final Path directory) {
+        this.directory = directory;
+    }
+
+    public static void start(final Path directory) {
+        final var thread = new Thread(new ConfigWatcher(directory), "ChemLib CC Config Watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+        try (final var watchService = FileSystems.getDefault().newWatchService()) {
+            Files.createDirectories(directory);
+            registerAll(watchService, directory);
+            ChemLibCC.LOGGER.info("Watching {} for changes", directory);
+            while (!Thread.currentThread().isInterrupted()) {
+                var key = watchService.take();
+                var isRelevant = false;
+                // Editors usually emit several events per save, so wait until they settle down
+                while (key != null) {
+                    final var parent = (Path) key.watchable();
+                    for (final var event : key.pollEvents()) {
+                        if (!(event.context() instanceof Path path)) {
+                            continue;
+                        }
+                        final var child = parent.resolve(path);
+                        if (isCache(child)) {
+                            continue;
+                        }
+                        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(child)) {
+                            registerAll(watchService, child);
+                            isRelevant = true;
+                        }
+                        else if (path.toString().endsWith(".json")) {
+                            isRelevant = true;
+                        }
+                    }
+                    key.reset();
+                    key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (!isRelevant) {
+                    continue;
+                }
+                try {
+                    ChemicalReloader.reload().whenComplete((report, error) -> {
+                        if (error != null) {
+                            ChemLibCC.LOGGER.error("Could not reload configuration: {}", error);
+                            return;
+                        }
+                        ChemLibCC.LOGGER.info(
+                            "Reloaded configuration, {} changes applied, {} client-side only, {} require a restart",
+                            report.applied().size(),
+                            report.clientOnly().size(),
+                            report.restartRequired().size());
+                    });
+                }
+                catch (Throwable error) {
+                    ChemLibCC.LOGGER.error("Could not reload configuration: {}", error);
+                }
+            }
+        }
+        catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+        catch (IOException error) {
+            ChemLibCC.LOGGER.error("Could not watch {}: {}", directory, error);
+        }
+    }
+
+    private void registerAll(final WatchService watchService, final Path root) throws IOException {
+        try (final Stream<Path> paths = Files.walk(root)) {
+            for (final var path : paths.filter(Files::isDirectory).toList()) {
+                if (isCache(path)) {
+                    continue;
+                }
+                path.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        }
+    }
+
+    // Our own cache files would otherwise trigger another reload after every reload
+    private boolean isCache(final Path path) {
+        for (final var name : directory.relativize(path)) {
+            if (name.toString().equals(".cache")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
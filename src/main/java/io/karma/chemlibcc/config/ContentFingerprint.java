@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.config;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * A compact fingerprint of the loaded chemical definitions, used to reject
+ * clients with different configs during the login handshake. Elements and
+ * compounds are hashed separately, so a mismatch can be narrowed down
+ * without exchanging the definitions themselves.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public record ContentFingerprint(int elementCount, String elementHash, int compoundCount, String compoundHash) {
+    public static final ContentFingerprint EMPTY = compute(new ChemicalDefinitions(List.of(), List.of()));
+    private static final int HASH_LENGTH = 8;
+    private static volatile ContentFingerprint current = EMPTY;
+
+    public static ContentFingerprint get() {
+        return current;
+    }
+
+    public static ContentFingerprint update(final ChemicalDefinitions definitions) {
+        final var fingerprint = compute(definitions);
+        current = fingerprint;
+        return fingerprint;
+    }
+
+    public static ContentFingerprint compute(final ChemicalDefinitions definitions) {
+        // Normalize the definitions, so neither file nor component order affect the fingerprint
+        final var compounds = new ArrayList<CompoundDefinition>(definitions.compounds().size());
+        for (final var compound : definitions.compounds()) {
+            // @formatter:off
+            compounds.add(new CompoundDefinition(compound.name(), compound.displayName(), compound.matterState(),
+                compound.description(), compound.color(), Collections.unmodifiableMap(new TreeMap<>(compound.components())),
+                compound.hasItem(), compound.hasFluid(), compound.fluid(), compound.effects()));
+            // @formatter:on
+        }
+        return new ContentFingerprint(definitions.elements().size(),
+            hash(definitions.elements(), ElementDefinition::name, DefinitionCodecs.ELEMENT),
+            compounds.size(),
+            hash(compounds, CompoundDefinition::name, DefinitionCodecs.COMPOUND));
+    }
+
+    private static <D> String hash(final List<D> definitions,
+                                   final Function<D, String> nameGetter,
+                                   final DefinitionCodec<D> codec) {
+        final var sorted = new ArrayList<>(definitions);
+        sorted.sort(Comparator.comparing(nameGetter));
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            final var output = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+            for (final var definition : sorted) {
+                codec.write(output, definition);
+            }
+            output.flush();
+            return HexFormat.of().formatHex(digest.digest(), 0, HASH_LENGTH);
+        }
+        catch (NoSuchAlgorithmException | IOException error) {
+            throw new IllegalStateException("Could not hash chemical definitions", error);
+        }
+    }
+
+    public static @Nullable ContentFingerprint parse(final String value) {
+        final var parts = value.split("[:/]");
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            return new ContentFingerprint(Integer.parseInt(parts[0]),
+                parts[1],
+                Integer.parseInt(parts[2]),
+                parts[3]);
+        }
+        catch (NumberFormatException error) {
+            return null;
+        }
+    }
+
+    /**
+     * @return a short human-readable summary of how the other fingerprint differs from this one.
+     */
+    public String describeDifference(final ContentFingerprint other) {
+        final var differences = new ArrayList<String>();
+        if (!elementHash.equals(other.elementHash)) {
+            differences.add(String.format("elements differ (%d here, %d remote)", elementCount, other.elementCount));
+        }
+        if (!compoundHash.equals(other.compoundHash)) {
+            differences.add(String.format("compounds differ (%d here, %d remote)", compoundCount, other.compoundCount));
+        }
+        return differences.isEmpty() ? "no differences" : String.join(", ", differences);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d:%s/%d:%s", elementCount, elementHash, compoundCount, compoundHash);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.config;
+
+import com.google.gson.JsonParser;
+import com.smashingmods.chemlib.api.MatterState;
+import com.smashingmods.chemlib.api.MetalType;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Binary encodings of the chemical definitions used by the {@link ChemicalDefinitionCache}.
+ * {@link ChemicalDefinitionCache#FORMAT_VERSION} has to be bumped whenever these change.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class DefinitionCodecs {
+    private static final MatterState[] MATTER_STATES = MatterState.values();
+    private static final MetalType[] METAL_TYPES = MetalType.values();
+
+    public static final DefinitionCodec<ElementDefinition> ELEMENT = new DefinitionCodec<>() {
+        @Override
+        public void write(final DataOutput output, final ElementDefinition definition) throws IOException {
+            writeString(output, definition.name());
+            writeString(output, definition.displayName());
+            output.writeInt(definition.atomicNumber());
+            writeString(output, definition.abbreviation());
+            writeString(output, definition.groupName());
+            output.writeInt(definition.group());
+            output.writeInt(definition.period());
+            output.writeByte(definition.matterState().ordinal());
+            output.writeByte(definition.metalType().ordinal());
+            output.writeBoolean(definition.artificial());
+            output.writeInt(definition.color());
+            output.writeBoolean(definition.hasItem());
+            output.writeBoolean(definition.hasFluid());
+            writeFluid(output, definition.fluid());
+            writeEffects(output, definition.effects());
+        }
+
+        @Override
+        public ElementDefinition read(final DataInput input) throws IOException {
+            // @formatter:off
+            return new ElementDefinition(readString(input), readString(input), input.readInt(), readString(input),
+                readString(input), input.readInt(), input.readInt(), MATTER_STATES[input.readByte()],
+                METAL_TYPES[input.readByte()], input.readBoolean(), input.readInt(), input.readBoolean(),
+                input.readBoolean(), readFluid(input), readEffects(input));
+            // @formatter:on
+        }
+    };
+
+    public static final DefinitionCodec<CompoundDefinition> COMPOUND = new DefinitionCodec<>() {
+        @Override
+        public void write(final DataOutput output, final CompoundDefinition definition) throws IOException {
+            writeString(output, definition.name());
+            writeString(output, definition.displayName());
+            output.writeByte(definition.matterState().ordinal());
+            writeString(output, definition.description());
+            output.writeInt(definition.color());
+            final var components = definition.components();
+            output.writeInt(components.size());
+            for (final var entry : components.entrySet()) {
+                writeString(output, entry.getKey());
+                output.writeInt(entry.getValue());
+            }
+            output.writeBoolean(definition.hasItem());
+            output.writeBoolean(definition.hasFluid());
+            writeFluid(output, definition.fluid());
+            writeEffects(output, definition.effects());
+        }
+
+        @Override
+        public CompoundDefinition read(final DataInput input) throws IOException {
+            final var name = readString(input);
+            final var displayName = readString(input);
+            final var matterState = MATTER_STATES[input.readByte()];
+            final var description = readString(input);
+            final var color = input.readInt();
+            final var componentCount = input.readInt();
+            final var components = new LinkedHashMap<String, Integer>(componentCount);
+            for (var i = 0; i < componentCount; i++) {
+                components.put(readString(input), input.readInt());
+            }
+            // @formatter:off
+            return new CompoundDefinition(name, displayName, matterState, description, color,
+                Collections.unmodifiableMap(components), input.readBoolean(), input.readBoolean(), readFluid(input),
+                readEffects(input));
+            // @formatter:on
+        }
+    };
+
+    // @formatter:off
+    private DefinitionCodecs() {}
+    // @formatter:on
+
+    private static void writeString(final DataOutput output, final String value) throws IOException {
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(final DataInput input) throws IOException {
+        final var bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeFluid(final DataOutput output, final @Nullable FluidDefinition fluid) throws IOException {
+        output.writeBoolean(fluid != null);
+        if (fluid == null) {
+            return;
+        }
+        output.writeInt(fluid.slopeFindDistance());
+        output.writeInt(fluid.decreasePerBlock());
+        writeString(output, fluid.properties().toString());
+    }
+
+    private static @Nullable FluidDefinition readFluid(final DataInput input) throws IOException {
+        if (!input.readBoolean()) {
+            return null;
+        }
+        final var slopeFindDistance = input.readInt();
+        final var decreasePerBlock = input.readInt();
+        final var properties = JsonParser.parseString(readString(input)).getAsJsonObject();
+        return new FluidDefinition(slopeFindDistance, decreasePerBlock, properties);
+    }
+
+    private static void writeEffects(final DataOutput output, final List<EffectDefinition> effects) throws IOException {
+        output.writeInt(effects.size());
+        for (final var effect : effects) {
+            writeString(output, effect.location());
+            output.writeInt(effect.duration());
+            output.writeInt(effect.amplifier());
+        }
+    }
+
+    private static List<EffectDefinition> readEffects(final DataInput input) throws IOException {
+        final var count = input.readInt();
+        final var effects = new ArrayList<EffectDefinition>(count);
+        for (var i = 0; i < count; i++) {
+            effects.add(new EffectDefinition(readString(input), input.readInt(), input.readInt()));
+        }
+        return EffectDefinition.intern(effects);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.config;
+
+import io.karma.chemlibcc.ChemLibCC;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A single mob effect of a chemical. Most chemicals share the same few
+ * effect sets, so the lists are interned and every chemical with equal
+ * effects refers to the same immutable list of instances.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public record EffectDefinition(String location, int duration, int amplifier) {
+    // @formatter:off
+    private static final ConcurrentHashMap<List<EffectDefinition>, List<EffectDefinition>> DEFINITIONS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<List<EffectDefinition>, List<MobEffectInstance>> INSTANCES = new ConcurrentHashMap<>();
+    // @formatter:on
+
+    public static List<EffectDefinition> intern(final List<EffectDefinition> definitions) {
+        if (definitions.isEmpty()) {
+            return List.of();
+        }
+        final var copy = List.copyOf(definitions);
+        final var interned = DEFINITIONS.putIfAbsent(copy, copy);
+        return interned != null ? interned : copy;
+    }
+
+    public static List<MobEffectInstance> createInstances(final List<EffectDefinition> definitions) {
+        if (definitions.isEmpty()) {
+            return List.of();
+        }
+        final var instances = INSTANCES.get(definitions);
+        if (instances != null) {
+            return instances;
+        }
+        final var effects = new ArrayList<MobEffectInstance>(definitions.size());
+        var isResolved = true;
+        for (final var definition : definitions) {
+            final var effect = definition.createInstance();
+            if (effect == null) {
+                ChemLibCC.LOGGER.warn("Unknown mob effect {}, ignoring", definition.location());
+                isResolved = false;
+                continue;
+            }
+            effects.add(effect);
+        }
+        final var result = List.copyOf(effects);
+        // Effects of other mods may not be registered yet, so only remember fully resolved sets
+        if (!isResolved) {
+            return result;
+        }
+        final var existing = INSTANCES.putIfAbsent(intern(definitions), result);
+        return existing != null ? existing : result;
+    }
+
+    public @Nullable MobEffectInstance createInstance() {
+        final var effect = ForgeRegistries.MOB_EFFECTS.getValue(new ResourceLocation(location));
+        if (effect == null) {
+            return null;
+        }
+        return new MobEffectInstance(effect, duration, amplifier);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.config;
+
+import com.smashingmods.chemlib.api.MatterState;
+import com.smashingmods.chemlib.api.MetalType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public record ElementDefinition(String name,
+                                String displayName,
+                                int atomicNumber,
+                                String abbreviation,
+                                String groupName,
+                                int group,
+                                int period,
+                                MatterState matterState,
+                                MetalType metalType,
+                                boolean artificial,
+                                int color,
+                                boolean hasItem,
+                                boolean hasFluid,
+                                @Nullable FluidDefinition fluid,
+                                List<EffectDefinition> effects) {
+}
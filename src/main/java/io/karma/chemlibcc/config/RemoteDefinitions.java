@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.config;
+
+import io.karma.chemlibcc.ChemLibCC;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Chemical definitions received from a server. They are stored in their
+ * compressed binary form below the config cache, keyed by their
+ * {@link ContentFingerprint}, and the ones of the most recently joined
+ * server are selected to replace the local configs. The selection is kept
+ * across starts until a server with different definitions replaces it,
+ * so rejoining the same server needs neither a transfer nor a restart.
+ * Deleting the selection file restores the local configs.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class RemoteDefinitions {
+    private static final int MAGIC = 0x43434352; // CCCR
+    private static final String SELECTION_FILE = "selected.txt";
+
+    // @formatter:off
+    private RemoteDefinitions() {}
+    // @formatter:on
+
+    public static Path getDirectory() {
+        return ChemicalConfigLoader.getCacheDirectory(ChemicalConfigLoader.getConfigDirectory()).resolve("remote");
+    }
+
+    public static byte[] encode(final ChemicalDefinitions definitions) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        final var deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (final var output = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            output.writeInt(MAGIC);
+            output.writeInt(ChemicalDefinitionCache.FORMAT_VERSION);
+            ChemicalDefinitionCache.writeDefinitions(output, DefinitionCodecs.ELEMENT, definitions.elements());
+            ChemicalDefinitionCache.writeDefinitions(output, DefinitionCodecs.COMPOUND, definitions.compounds());
+        }
+        finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    public static ChemicalDefinitions decode(final byte[] data) throws IOException {
+        try (final var input = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+            if (input.readInt() != MAGIC || input.readInt() != ChemicalDefinitionCache.FORMAT_VERSION) {
+                throw new IOException("Unsupported format of remote chemical definitions");
+            }
+            final var elements = ChemicalDefinitionCache.readDefinitions(input, DefinitionCodecs.ELEMENT);
+            final var compounds = ChemicalDefinitionCache.readDefinitions(input, DefinitionCodecs.COMPOUND);
+            return new ChemicalDefinitions(elements, compounds);
+        }
+    }
+
+    public static boolean contains(final ContentFingerprint fingerprint) {
+        return Files.isRegularFile(getFile(fingerprint));
+    }
+
+    /**
+     * Stores the given encoded definitions, after making sure they match their fingerprint.
+     */
+    public static void store(final ContentFingerprint fingerprint, final byte[] data) throws IOException {
+        final var actualFingerprint = ContentFingerprint.compute(decode(data));
+        if (!actualFingerprint.equals(fingerprint)) {
+            throw new IOException(String.format("Expected definitions %s but received %s",
+                fingerprint,
+                actualFingerprint));
+        }
+        final var file = getFile(fingerprint);
+        Files.createDirectories(file.getParent());
+        final var tempFile = file.resolveSibling(String.format("%s.tmp", file.getFileName()));
+        Files.write(tempFile, data);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static void select(final ContentFingerprint fingerprint) throws IOException {
+        final var directory = getDirectory();
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve(SELECTION_FILE), fingerprint.toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Loads the selected definitions, the selection stays until another one replaces it.
+     *
+     * @return the selected definitions, or null if none are selected or they can't be loaded.
+     */
+    public static @Nullable ChemicalDefinitions loadSelected() {
+        final var selectionFile = getDirectory().resolve(SELECTION_FILE);
+        if (!Files.isRegularFile(selectionFile)) {
+            return null;
+        }
+        try {
+            final var fingerprint = ContentFingerprint.parse(Files.readString(selectionFile, StandardCharsets.UTF_8)
+                .trim());
+            if (fingerprint == null || !contains(fingerprint)) {
+                Files.delete(selectionFile);
+                ChemLibCC.LOGGER.warn("Selected remote chemical definitions are missing, using local configs");
+                return null;
+            }
+            final var definitions = decode(Files.readAllBytes(getFile(fingerprint)));
+            ChemLibCC.LOGGER.warn("Ignoring the local chemical configs, using {} elements and {} compounds received "
+                                  + "from a server ({}). Delete {} to use the local configs again",
+                definitions.elements().size(),
+                definitions.compounds().size(),
+                fingerprint,
+                selectionFile);
+            return definitions;
+        }
+        catch (IOException error) {
+            ChemLibCC.LOGGER.error("Could not load remote chemical definitions, using local configs: {}", error);
+            return null;
+        }
+    }
+
+    private static Path getFile(final ContentFingerprint fingerprint) {
+        return getDirectory().resolve(String.format("%s-%s.bin", fingerprint.elementHash(), fingerprint.compoundHash()));
+    }
+}
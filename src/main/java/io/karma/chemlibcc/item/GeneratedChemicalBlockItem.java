@@ -15,12 +15,13 @@
 
 package io.karma.chemlibcc.item;
 
-import com.smashingmods.chemlib.ChemLib;
 import com.smashingmods.chemlib.common.blocks.ChemicalBlock;
 import com.smashingmods.chemlib.common.items.ChemicalBlockItem;
-import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.util.ChemicalNames;
+import io.karma.chemlibcc.util.ContentStats;
 import io.karma.chemlibcc.util.GeneratedChemical;
-import net.minecraft.client.resources.language.I18n;
+import io.karma.chemlibcc.util.GeneratedItem;
+import io.karma.chemlibcc.util.ReloadableValue;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
@@ -29,25 +30,24 @@ import org.jetbrains.annotations.NotNull;
  * @author Alexander Hinze
  * @since 12/10/2024
  */
-public class GeneratedChemicalBlockItem extends ChemicalBlockItem {
+public class GeneratedChemicalBlockItem extends ChemicalBlockItem implements GeneratedItem {
+    private final ReloadableValue<Component> cachedName = new ReloadableValue<>(ContentStats.Cache.ITEM_NAMES,
+        this::createName);
+
     public GeneratedChemicalBlockItem(final ChemicalBlock block, final Properties properties) {
         super(block, properties);
     }
 
     @Override
     public @NotNull Component getName(final @NotNull ItemStack stack) {
+        return cachedName.get();
+    }
+
+    protected Component createName() {
         final var chemical = getChemical();
         if (!(chemical instanceof GeneratedChemical generatedChemical)) {
-            return super.getName(stack);
+            return super.getName(new ItemStack(this));
         }
-        final var compoundNameKey = String.format("item.%s.element_%s", ChemLib.MODID, getChemicalName());
-        // @formatter:off
-        var compoundName = I18n.exists(compoundNameKey)
-            ? I18n.get(compoundNameKey)
-            : generatedChemical.getDisplayName();
-        // @formatter:on
-        return Component.literal(String.format("%s %s",
-            compoundName,
-            I18n.get(String.format("%s.block", ChemLibCC.MODID))));
+        return ChemicalNames.createDerivedName(getChemicalName(), generatedChemical.getDisplayName(), "block");
     }
 }
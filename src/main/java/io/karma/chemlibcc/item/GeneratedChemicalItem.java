@@ -15,12 +15,15 @@
 
 package io.karma.chemlibcc.item;
 
-import com.smashingmods.chemlib.ChemLib;
 import com.smashingmods.chemlib.api.ChemicalItemType;
 import com.smashingmods.chemlib.common.items.ChemicalItem;
 import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.util.ChemicalNames;
+import io.karma.chemlibcc.util.ContentStats;
 import io.karma.chemlibcc.util.GeneratedChemical;
-import net.minecraft.client.resources.language.I18n;
+import io.karma.chemlibcc.util.GeneratedItem;
+import io.karma.chemlibcc.util.ReloadableValue;
+import io.karma.chemlibcc.util.TooltipCache;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
@@ -35,7 +38,13 @@ import java.util.List;
  * @author Alexander Hinze
  * @since 09/10/2024
  */
-public class GeneratedChemicalItem extends ChemicalItem {
+public class GeneratedChemicalItem extends ChemicalItem implements GeneratedItem {
+    private static final Component TOOLTIP = Component.translatable(String.format("tooltip.%s", ChemLibCC.MODID));
+
+    private final ReloadableValue<Component> cachedName = new ReloadableValue<>(ContentStats.Cache.ITEM_NAMES,
+        this::createName);
+    private final TooltipCache tooltipCache = new TooltipCache(this::createTooltip);
+
     public GeneratedChemicalItem(final ResourceLocation pResourceLocation,
                                  final ChemicalItemType pChemicalItemType,
                                  final Properties pProperties) {
@@ -44,19 +53,17 @@ public class GeneratedChemicalItem extends ChemicalItem {
 
     @Override
     public @NotNull Component getName(final @NotNull ItemStack stack) {
+        return cachedName.get();
+    }
+
+    protected Component createName() {
         final var chemical = getChemical();
         if (!(chemical instanceof GeneratedChemical generatedChemical)) {
-            return super.getName(stack);
+            return super.getName(new ItemStack(this));
         }
-        final var compoundNameKey = String.format("item.%s.element_%s", ChemLib.MODID, getChemicalName());
-        // @formatter:off
-        var compoundName = I18n.exists(compoundNameKey)
-            ? I18n.get(compoundNameKey)
-            : generatedChemical.getDisplayName();
-        // @formatter:on
-        return Component.literal(String.format("%s %s",
-            compoundName,
-            I18n.get(String.format("%s.%s", ChemLibCC.MODID, getItemType().getSerializedName()))));
+        return ChemicalNames.createDerivedName(getChemicalName(),
+            generatedChemical.getDisplayName(),
+            getItemType().getSerializedName());
     }
 
     @Override
@@ -64,7 +71,14 @@ public class GeneratedChemicalItem extends ChemicalItem {
                                 final @Nullable Level world,
                                 final @NotNull List<Component> tooltip,
                                 final @NotNull TooltipFlag isAdvanced) {
-        tooltip.add(Component.translatable(String.format("tooltip.%s", ChemLibCC.MODID)));
+        tooltipCache.appendTo(stack, world, tooltip, isAdvanced);
+    }
+
+    private void createTooltip(final ItemStack stack,
+                               final @Nullable Level world,
+                               final List<Component> tooltip,
+                               final TooltipFlag isAdvanced) {
+        tooltip.add(TOOLTIP);
         super.appendHoverText(stack, world, tooltip, isAdvanced);
     }
 }
@@ -15,15 +15,11 @@
 
 package io.karma.chemlibcc.item;
 
-import com.smashingmods.chemlib.ChemLib;
 import com.smashingmods.chemlib.api.ChemicalItemType;
-import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.util.ChemicalNames;
 import io.karma.chemlibcc.util.GeneratedChemical;
-import net.minecraft.client.resources.language.I18n;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.item.ItemStack;
-import org.jetbrains.annotations.NotNull;
 
 /**
  * @author Alexander Hinze
@@ -37,19 +33,11 @@ public final class GeneratedCompoundDustItem extends GeneratedChemicalItem {
     }
 
     @Override
-    public @NotNull Component getName(final @NotNull ItemStack stack) {
+    protected Component createName() {
         final var chemical = getChemical();
         if (!(chemical instanceof GeneratedChemical generatedChemical)) {
-            return super.getName(stack);
+            return super.createName();
         }
-        final var compoundNameKey = String.format("item.%s.compound_%s", ChemLib.MODID, getChemicalName());
-        // @formatter:off
-        var compoundName = I18n.exists(compoundNameKey)
-            ? I18n.get(compoundNameKey)
-            : generatedChemical.getDisplayName();
-        // @formatter:on
-        return Component.literal(String.format("%s %s",
-            compoundName,
-            I18n.get(String.format("%s.dust", ChemLibCC.MODID))));
+        return ChemicalNames.createDerivedName(getChemicalName(), generatedChemical.getDisplayName(), "dust");
     }
 }
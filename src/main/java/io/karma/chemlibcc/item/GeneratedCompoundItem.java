@@ -19,7 +19,13 @@ import com.smashingmods.chemlib.ChemLib;
 import com.smashingmods.chemlib.api.MatterState;
 import com.smashingmods.chemlib.common.items.CompoundItem;
 import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.util.ChemicalFormula;
+import io.karma.chemlibcc.util.ChemicalPropertyStore;
+import io.karma.chemlibcc.util.ContentStats;
 import io.karma.chemlibcc.util.GeneratedChemical;
+import io.karma.chemlibcc.util.GeneratedItem;
+import io.karma.chemlibcc.util.ReloadableValue;
+import io.karma.chemlibcc.util.TooltipCache;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.item.ItemStack;
@@ -28,6 +34,7 @@ import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -35,25 +42,54 @@ import java.util.Map;
  * @author Alexander Hinze
  * @since 09/10/2024
  */
-public final class GeneratedCompoundItem extends CompoundItem implements GeneratedChemical {
-    private final String displayName;
+public final class GeneratedCompoundItem extends CompoundItem implements GeneratedChemical, GeneratedItem {
+    private static final Component TOOLTIP = Component.translatable(String.format("tooltip.%s", ChemLibCC.MODID));
 
-    public GeneratedCompoundItem(final String compoundName,
-                                 final String displayName,
-                                 final MatterState matterState,
-                                 final Map<String, Integer> components,
-                                 final String description,
-                                 final String color,
-                                 final List<MobEffectInstance> effects) {
-        super(compoundName, matterState, components, description, color, effects);
-        this.displayName = displayName;
+    private final int chemicalId;
+    private final ReloadableValue<Component> cachedName = new ReloadableValue<>(ContentStats.Cache.ITEM_NAMES,
+        this::createName);
+    private final TooltipCache tooltipCache = new TooltipCache(this::createTooltip);
+    private volatile ChemicalFormula formula;
+
+    /**
+     * ChemLib only receives values shared with the store, every getter reads from the store instead.
+     */
+    public GeneratedCompoundItem(final ChemicalPropertyStore store, final int chemicalId) {
+        super(store.getName(chemicalId),
+            store.getMatterState(chemicalId),
+            store.getComponents(chemicalId),
+            store.getDescription(chemicalId),
+            store.getColorString(chemicalId),
+            store.getEffects(chemicalId));
+        this.chemicalId = chemicalId;
+    }
+
+    @Override
+    public int getChemicalId() {
+        return chemicalId;
     }
 
     @Override
     public @NotNull Component getName(final @NotNull ItemStack stack) {
+        return cachedName.get();
+    }
+
+    private Component createName() {
         return Component.translatableWithFallback(String.format("item.%s.compound_%s",
             ChemLib.MODID,
-            getChemicalName()), displayName);
+            getChemicalName()), getDisplayName());
+    }
+
+    /**
+     * @return the Hill formula computed by the {@link io.karma.chemlibcc.util.FormulaEngine}, null until all
+     * chemicals are loaded. Unlike {@link #getAbbreviation()}, nested groups are flattened.
+     */
+    public @Nullable ChemicalFormula getFormula() {
+        return formula;
+    }
+
+    public void setFormula(final ChemicalFormula formula) {
+        this.formula = formula;
     }
 
     @Override
@@ -63,9 +99,39 @@ public final class GeneratedCompoundItem extends CompoundItem implements Generat
             getChemicalName()), getChemicalDescription());
     }
 
+    @Override
+    public @NotNull String getChemicalName() {
+        return ChemicalPropertyStore.get().getName(chemicalId);
+    }
+
+    @Override
+    public @NotNull MatterState getMatterState() {
+        return ChemicalPropertyStore.get().getMatterState(chemicalId);
+    }
+
+    @Override
+    public @NotNull Map<String, Integer> getComponents() {
+        return ChemicalPropertyStore.get().getComponents(chemicalId);
+    }
+
     @Override
     public String getDisplayName() {
-        return displayName;
+        return ChemicalPropertyStore.get().getDisplayName(chemicalId);
+    }
+
+    @Override
+    public @NotNull String getChemicalDescription() {
+        return ChemicalPropertyStore.get().getDescription(chemicalId);
+    }
+
+    @Override
+    public int getColor() {
+        return ChemicalPropertyStore.get().getColor(chemicalId);
+    }
+
+    @Override
+    public @NotNull List<MobEffectInstance> getEffects() {
+        return ChemicalPropertyStore.get().getEffects(chemicalId);
     }
 
     @Override
@@ -73,7 +139,36 @@ public final class GeneratedCompoundItem extends CompoundItem implements Generat
                                 final @Nullable Level world,
                                 final @NotNull List<Component> tooltip,
                                 final @NotNull TooltipFlag isAdvanced) {
-        tooltip.add(Component.translatable(String.format("tooltip.%s", ChemLibCC.MODID)));
+        tooltipCache.appendTo(stack, world, tooltip, isAdvanced);
+    }
+
+    private void createTooltip(final ItemStack stack,
+                               final @Nullable Level world,
+                               final List<Component> tooltip,
+                               final TooltipFlag isAdvanced) {
+        tooltip.add(TOOLTIP);
+        final var start = tooltip.size();
         super.appendHoverText(stack, world, tooltip, isAdvanced);
+        final var formula = this.formula;
+        if (formula == null) {
+            return;
+        }
+        // The flattened formula goes below ChemLib's abbreviation, unless they are the same
+        final var abbreviation = getAbbreviation();
+        final var lines = new ArrayList<Component>(2);
+        if (!formula.formula().equals(abbreviation)) {
+            lines.add(formula.formulaComponent());
+        }
+        final var molarMass = formula.molarMassComponent();
+        if (molarMass != null) {
+            lines.add(molarMass);
+        }
+        for (var i = start; i < tooltip.size(); i++) {
+            if (tooltip.get(i).getString().equals(abbreviation)) {
+                tooltip.addAll(i + 1, lines);
+                return;
+            }
+        }
+        tooltip.addAll(lines);
     }
 }
@@ -21,8 +21,13 @@ import com.smashingmods.chemlib.api.MetalType;
 import com.smashingmods.chemlib.common.items.ElementItem;
 import io.karma.chemlibcc.ChemLibCC;
 import io.karma.chemlibcc.util.BuiltinRendererItem;
+import io.karma.chemlibcc.util.ChemicalPropertyStore;
+import io.karma.chemlibcc.util.ContentStats;
 import io.karma.chemlibcc.util.ElementGroup;
 import io.karma.chemlibcc.util.GeneratedChemical;
+import io.karma.chemlibcc.util.GeneratedItem;
+import io.karma.chemlibcc.util.ReloadableValue;
+import io.karma.chemlibcc.util.TooltipCache;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.item.ItemStack;
@@ -37,50 +42,106 @@ import java.util.List;
  * @author Alexander Hinze
  * @since 09/10/2024
  */
-public final class GeneratedElementItem extends ElementItem implements GeneratedChemical, BuiltinRendererItem {
-    private final String displayName;
-    private final String groupName;
-
-    public GeneratedElementItem(final String chemicalName,
-                                final String displayName,
-                                final int atomicNumber,
-                                final String abbreviation,
-                                final String groupName,
-                                final int group,
-                                final int period,
-                                final MatterState matterState,
-                                final MetalType metalType,
-                                final boolean artificial,
-                                final String color,
-                                final List<MobEffectInstance> effects) {
-        super(chemicalName,
-            atomicNumber,
-            abbreviation,
-            group,
-            period,
-            matterState,
-            metalType,
-            artificial,
-            color,
-            effects);
-        this.displayName = displayName;
-        this.groupName = groupName;
+public final class GeneratedElementItem extends ElementItem implements GeneratedChemical, GeneratedItem, BuiltinRendererItem {
+    private static final Component TOOLTIP = Component.translatable(String.format("tooltip.%s", ChemLibCC.MODID));
+
+    private final int chemicalId;
+    private final ElementGroup elementGroup;
+    private final ReloadableValue<Component> cachedName = new ReloadableValue<>(ContentStats.Cache.ITEM_NAMES,
+        this::createName);
+    private final TooltipCache tooltipCache = new TooltipCache(this::createTooltip);
+
+    /**
+     * ChemLib only receives values shared with the store, every getter reads from the store instead.
+     */
+    public GeneratedElementItem(final ChemicalPropertyStore store, final int chemicalId) {
+        super(store.getName(chemicalId),
+            store.getAtomicNumber(chemicalId),
+            store.getAbbreviation(chemicalId),
+            store.getGroup(chemicalId),
+            store.getPeriod(chemicalId),
+            store.getMatterState(chemicalId),
+            store.getMetalType(chemicalId),
+            store.isArtificial(chemicalId),
+            store.getColorString(chemicalId),
+            store.getEffects(chemicalId));
+        this.chemicalId = chemicalId;
+        this.elementGroup = ElementGroup.byName(store.getGroupName(chemicalId));
+    }
+
+    @Override
+    public int getChemicalId() {
+        return chemicalId;
+    }
+
+    @Override
+    public @NotNull String getChemicalName() {
+        return ChemicalPropertyStore.get().getName(chemicalId);
+    }
+
+    @Override
+    public int getAtomicNumber() {
+        return ChemicalPropertyStore.get().getAtomicNumber(chemicalId);
+    }
+
+    @Override
+    public @NotNull String getAbbreviation() {
+        return ChemicalPropertyStore.get().getAbbreviation(chemicalId);
+    }
+
+    @Override
+    public int getGroup() {
+        return ChemicalPropertyStore.get().getGroup(chemicalId);
+    }
+
+    @Override
+    public int getPeriod() {
+        return ChemicalPropertyStore.get().getPeriod(chemicalId);
+    }
+
+    @Override
+    public @NotNull MatterState getMatterState() {
+        return ChemicalPropertyStore.get().getMatterState(chemicalId);
+    }
+
+    @Override
+    public @NotNull MetalType getMetalType() {
+        return ChemicalPropertyStore.get().getMetalType(chemicalId);
+    }
+
+    @Override
+    public boolean isArtificial() {
+        return ChemicalPropertyStore.get().isArtificial(chemicalId);
     }
 
     @Override
     public String getDisplayName() {
-        return displayName;
+        return ChemicalPropertyStore.get().getDisplayName(chemicalId);
+    }
+
+    @Override
+    public int getColor() {
+        return ChemicalPropertyStore.get().getColor(chemicalId);
+    }
+
+    @Override
+    public @NotNull List<MobEffectInstance> getEffects() {
+        return ChemicalPropertyStore.get().getEffects(chemicalId);
     }
 
     @Override
     public @NotNull String getGroupName() {
-        return ElementGroup.byName(groupName).getLocalizedName();
+        return elementGroup.getLocalizedName();
     }
 
     @Override
     public @NotNull Component getName(final @NotNull ItemStack stack) {
+        return cachedName.get();
+    }
+
+    private Component createName() {
         return Component.translatableWithFallback(String.format("item.%s.element_%s", ChemLib.MODID, getChemicalName()),
-            displayName);
+            getDisplayName());
     }
 
     @Override
@@ -88,7 +149,14 @@ public final class GeneratedElementItem extends ElementItem implements Generated
                                 final @Nullable Level world,
                                 final @NotNull List<Component> tooltip,
                                 final @NotNull TooltipFlag isAdvanced) {
-        tooltip.add(Component.translatable(String.format("tooltip.%s", ChemLibCC.MODID)));
+        tooltipCache.appendTo(stack, world, tooltip, isAdvanced);
+    }
+
+    private void createTooltip(final ItemStack stack,
+                               final @Nullable Level world,
+                               final List<Component> tooltip,
+                               final TooltipFlag isAdvanced) {
+        tooltip.add(TOOLTIP);
         super.appendHoverText(stack, world, tooltip, isAdvanced);
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.item;
+
+import io.karma.chemlibcc.util.FluidTextures;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.BlockAndTintGetter;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraftforge.client.extensions.common.IClientFluidTypeExtensions;
+import net.minecraftforge.fluids.FluidType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class GeneratedFluidType extends FluidType {
+    private final FluidTextures textures;
+    private volatile int tintColor;
+
+    public GeneratedFluidType(final Properties properties, final FluidTextures textures, final int tintColor) {
+        super(properties);
+        this.textures = textures;
+        this.tintColor = tintColor;
+    }
+
+    public FluidTextures getTextures() {
+        return textures;
+    }
+
+    public int getTintColor() {
+        return tintColor;
+    }
+
+    public void setTintColor(final int tintColor) {
+        this.tintColor = tintColor;
+    }
+
+    @Override
+    public void initializeClient(final @NotNull Consumer<IClientFluidTypeExtensions> consumer) {
+        consumer.accept(new ClientExtensions(this));
+    }
+
+    private record ClientExtensions(GeneratedFluidType type) implements IClientFluidTypeExtensions {
+        @Override
+        public ResourceLocation getStillTexture() {
+            return type.textures.still();
+        }
+
+        @Override
+        public ResourceLocation getFlowingTexture() {
+            return type.textures.flowing();
+        }
+
+        @Override
+        public ResourceLocation getOverlayTexture() {
+            return type.textures.overlay();
+        }
+
+        @Override
+        public ResourceLocation getRenderOverlayTexture(final Minecraft mc) {
+            return type.textures.renderOverlay();
+        }
+
+        @Override
+        public int getTintColor() {
+            return type.tintColor;
+        }
+
+        @Override
+        public int getTintColor(final FluidState state, final BlockAndTintGetter getter, final BlockPos pos) {
+            return type.tintColor;
+        }
+    }
+}
@@ -15,14 +15,10 @@
 
 package io.karma.chemlibcc.item;
 
-import com.smashingmods.chemlib.ChemLib;
 import com.smashingmods.chemlib.common.blocks.ChemicalBlock;
-import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.util.ChemicalNames;
 import io.karma.chemlibcc.util.GeneratedChemical;
-import net.minecraft.client.resources.language.I18n;
 import net.minecraft.network.chat.Component;
-import net.minecraft.world.item.ItemStack;
-import org.jetbrains.annotations.NotNull;
 
 /**
  * @author Alexander Hinze
@@ -34,19 +30,11 @@ public final class GeneratedLampBlockItem extends GeneratedChemicalBlockItem {
     }
 
     @Override
-    public @NotNull Component getName(final @NotNull ItemStack stack) {
+    protected Component createName() {
         final var chemical = getChemical();
         if (!(chemical instanceof GeneratedChemical generatedChemical)) {
-            return super.getName(stack);
+            return super.createName();
         }
-        final var compoundNameKey = String.format("item.%s.element_%s", ChemLib.MODID, getChemicalName());
-        // @formatter:off
-        var compoundName = I18n.exists(compoundNameKey)
-            ? I18n.get(compoundNameKey)
-            : generatedChemical.getDisplayName();
-        // @formatter:on
-        return Component.literal(String.format("%s %s",
-            compoundName,
-            I18n.get(String.format("%s.lamp", ChemLibCC.MODID))));
+        return ChemicalNames.createDerivedName(getChemicalName(), generatedChemical.getDisplayName(), "lamp");
     }
 }
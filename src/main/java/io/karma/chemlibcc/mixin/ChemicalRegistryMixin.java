@@ -15,37 +15,48 @@
 
 package io.karma.chemlibcc.mixin;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.smashingmods.chemlib.ChemLib;
 import com.smashingmods.chemlib.api.ChemicalBlockType;
 import com.smashingmods.chemlib.api.ChemicalItemType;
-import com.smashingmods.chemlib.api.MatterState;
 import com.smashingmods.chemlib.api.MetalType;
 import com.smashingmods.chemlib.registry.BlockRegistry;
 import com.smashingmods.chemlib.registry.ChemicalRegistry;
 import com.smashingmods.chemlib.registry.ItemRegistry;
 import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.config.ChemicalConfigLoader;
+import io.karma.chemlibcc.config.ChemicalDefinitions;
+import io.karma.chemlibcc.config.ChemicalReloader;
+import io.karma.chemlibcc.config.ChemicalValidator;
+import io.karma.chemlibcc.config.CompoundDefinition;
+import io.karma.chemlibcc.config.ContentFingerprint;
+import io.karma.chemlibcc.config.ElementDefinition;
+import io.karma.chemlibcc.config.RemoteDefinitions;
 import io.karma.chemlibcc.item.GeneratedChemicalBlock;
 import io.karma.chemlibcc.item.GeneratedCompoundItem;
 import io.karma.chemlibcc.item.GeneratedElementItem;
 import io.karma.chemlibcc.item.GeneratedLampBlock;
+import io.karma.chemlibcc.network.ConfigStreaming;
+import io.karma.chemlibcc.util.ChemicalPropertyStore;
+import io.karma.chemlibcc.util.ElementGroup;
 import io.karma.chemlibcc.util.FluidRegistryUtils;
+import io.karma.chemlibcc.util.FluidTextures;
 import io.karma.chemlibcc.util.ItemRegistryUtils;
+import io.karma.chemlibcc.util.ModelRegistryUtils;
+import io.karma.chemlibcc.util.StartupProfiler;
+import io.karma.chemlibcc.util.StartupProfiler.Phase;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.Item;
-import net.minecraftforge.fml.loading.FMLLoader;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.LinkedHashMap;
-import java.util.Locale;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * @author Alexander Hinze
@@ -55,170 +66,199 @@ import java.util.function.Consumer;
 public final class ChemicalRegistryMixin {
     @Inject(method = "register", at = @At("TAIL"))
     private static void onRegister(final CallbackInfo cbi) {
-        final var directory = FMLLoader.getGamePath().resolve("config").resolve("chemlibcc");
-        chemlibcc$tryLoad(directory.resolve("elements.json"), ChemicalRegistryMixin::chemlibcc$registerElements);
-        chemlibcc$tryLoad(directory.resolve("compounds.json"), ChemicalRegistryMixin::chemlibcc$registerCompounds);
+        final var references = chemlibcc$collectReferences();
+        final var definitions = ChemicalReloader.prepare(chemlibcc$loadDefinitions(), references);
+        ChemicalPropertyStore.build(definitions);
+        final var startTime = System.nanoTime();
+        final var fingerprint = ContentFingerprint.update(definitions);
+        StartupProfiler.record(Phase.FINGERPRINT, startTime);
+        ChemLibCC.LOGGER.info("Chemical content fingerprint is {}", fingerprint);
+        chemlibcc$registerGroups(definitions.elements());
+        chemlibcc$tryRegister("elements",
+            Phase.ELEMENT_REGISTRATION,
+            definitions.elements(),
+            ElementDefinition::name,
+            ChemicalRegistryMixin::chemlibcc$registerElement);
+        chemlibcc$tryRegister("compounds",
+            Phase.COMPOUND_REGISTRATION,
+            definitions.compounds(),
+            CompoundDefinition::name,
+            ChemicalRegistryMixin::chemlibcc$registerCompound);
+        ChemicalReloader.setRegistered(definitions, references);
     }
 
     @Unique
-    private static void chemlibcc$tryLoad(final Path path, final Consumer<JsonObject> consumer) {
-        if (!Files.exists(path)) {
-            return;
-        }
-        ChemLibCC.LOGGER.info("Loading external content configuration from {}", path);
-        try (final var reader = Files.newBufferedReader(path)) {
-            final var element = JsonParser.parseReader(reader);
-            if (!element.isJsonObject()) {
-                throw new IllegalStateException("Config root must be a JSON object");
+    private static ChemicalDefinitions chemlibcc$loadDefinitions() {
+        if (ConfigStreaming.ACCEPT_REMOTE_CONFIG) {
+            final var definitions = RemoteDefinitions.loadSelected();
+            if (definitions != null) {
+                return definitions;
             }
-            consumer.accept(element.getAsJsonObject());
         }
-        catch (Throwable error) {
-            ChemLibCC.LOGGER.error("Could not load configuration from {}: {}", path, error);
+        return ChemicalConfigLoader.load(ChemicalConfigLoader.getConfigDirectory());
+    }
+
+    /**
+     * Collects the chemicals registered by ChemLib itself, before any of
+     * ours are added, so our configs can be validated against them.
+     */
+    @Unique
+    private static ChemicalValidator.References chemlibcc$collectReferences() {
+        final var references = new ChemicalValidator.References();
+        // The items are only constructed once the registry fires, so the atomic numbers
+        // are taken from the same elements.json ChemLib has just registered them from
+        try {
+            references.readClasspath(ChemicalRegistry.class);
+        }
+        catch (IOException | RuntimeException error) {
+            ChemLibCC.LOGGER.warn("Could not read ChemLib's chemicals, atomic numbers won't be checked: {}", error);
         }
+        ItemRegistry.REGISTRY_ELEMENTS.getEntries().forEach(entry -> references.add(entry.getId().getPath()));
+        ItemRegistry.REGISTRY_COMPOUNDS.getEntries().forEach(entry -> references.add(entry.getId().getPath()));
+        return references;
     }
 
     @Unique
-    private static void chemlibcc$registerElements(final JsonObject rootObject) {
-        for (final var jsonElement : rootObject.getAsJsonArray("elements")) {
-            final var object = jsonElement.getAsJsonObject();
-            final var elementName = object.get("name").getAsString();
-            final var displayName = object.get("display_name").getAsString();
-            final var atomicNumber = object.get("atomic_number").getAsInt();
-            final var abbreviation = object.get("abbreviation").getAsString();
-            final var groupName = object.get("group_name").getAsString();
-            final var group = object.get("group").getAsInt();
-            final var period = object.get("period").getAsInt();
-            final var matterState = MatterState.valueOf(object.get("matter_state").getAsString().toUpperCase(Locale.ROOT));
-            final var metalType = MetalType.valueOf(object.get("metal_type").getAsString().toUpperCase(Locale.ROOT));
-            final var artificial = object.has("artificial") && object.get("artificial").getAsBoolean();
-            final var color = object.get("color").getAsString();
+    private static void chemlibcc$registerGroups(final List<ElementDefinition> elements) {
+        final var groups = new HashMap<Integer, ElementGroup>(elements.size() * 2);
+        for (final var element : elements) {
+            groups.putIfAbsent(element.atomicNumber(), ElementGroup.byName(element.groupName()));
+        }
+        ElementGroup.registerAll(groups);
+    }
+
+    @Unique
+    private static <D> void chemlibcc$tryRegister(final String kind,
+                                                 final Phase phase,
+                                                 final List<D> definitions,
+                                                 final Function<D, String> nameGetter,
+                                                 final Consumer<D> consumer) {
+        final var startTime = System.nanoTime();
+        var failedCount = 0;
+        for (final var definition : definitions) {
+            try {
+                consumer.accept(definition);
+            }
+            catch (Throwable error) {
+                ChemLibCC.LOGGER.error("Could not register '{}': {}", nameGetter.apply(definition), error);
+                failedCount++;
+            }
+        }
+        if (failedCount > 0) {
+            ChemLibCC.LOGGER.error("Failed to register {} of {} {}", failedCount, definitions.size(), kind);
+        }
+        StartupProfiler.record(phase, startTime);
+    }
 
-            ItemRegistry.REGISTRY_ELEMENTS.register(elementName,
-                () -> new GeneratedElementItem(elementName,
-                    displayName,
-                    atomicNumber,
-                    abbreviation,
-                    groupName,
-                    group,
-                    period,
-                    matterState,
-                    metalType,
-                    artificial,
-                    color,
-                    ChemicalRegistry.mobEffectsFactory(object)));
-            final var registryObject = ItemRegistry.getRegistryObject(ItemRegistry.REGISTRY_ELEMENTS, elementName);
+    @Unique
+    private static void chemlibcc$registerElement(final ElementDefinition definition) {
+        final var elementName = definition.name();
+        final var matterState = definition.matterState();
+        final var metalType = definition.metalType();
 
-            if (!artificial) {
-                switch (matterState) {
-                    case SOLID -> {
-                        final var hasItem = object.has("has_item") && object.get("has_item").getAsBoolean();
+        final var store = ChemicalPropertyStore.get();
+        final var chemicalId = store.getId(elementName);
+        ItemRegistry.REGISTRY_ELEMENTS.register(elementName,
+            StartupProfiler.timed(Phase.BLOCK_ITEM_REGISTRATION, () -> new GeneratedElementItem(store, chemicalId)));
+        final var registryObject = ItemRegistry.getRegistryObject(ItemRegistry.REGISTRY_ELEMENTS, elementName);
+        ModelRegistryUtils.registerItemModel(registryObject.getId(), ModelRegistryUtils.BUILTIN_MODEL);
 
-                        if (metalType == MetalType.METAL) {
-                            ItemRegistryUtils.registerItemByType(registryObject, ChemicalItemType.PLATE);
-                            if (!hasItem) {
-                                ItemRegistryUtils.registerItemByType(registryObject, ChemicalItemType.NUGGET);
-                                ItemRegistryUtils.registerItemByType(registryObject, ChemicalItemType.INGOT);
-                                BlockRegistry.BLOCKS.register(String.format("%s_metal_block", elementName),
-                                    () -> new GeneratedChemicalBlock(new ResourceLocation(ChemLib.MODID, elementName),
-                                        ChemicalBlockType.METAL,
-                                        BlockRegistry.METAL_BLOCKS,
-                                        BlockRegistry.METAL_PROPERTIES));
-                                BlockRegistry.getRegistryObjectByName(String.format("%s_metal_block",
-                                    elementName)).ifPresent(block -> ItemRegistryUtils.fromChemicalBlock(block,
-                                    new Item.Properties()));
-                            }
-                        }
-                        ItemRegistryUtils.registerItemByType(registryObject, ChemicalItemType.DUST);
+        if (definition.artificial()) {
+            return;
+        }
+        switch (matterState) {
+            case SOLID -> {
+                if (metalType == MetalType.METAL) {
+                    ItemRegistryUtils.registerItemByType(registryObject, ChemicalItemType.PLATE);
+                    if (!definition.hasItem()) {
+                        ItemRegistryUtils.registerItemByType(registryObject, ChemicalItemType.NUGGET);
+                        ItemRegistryUtils.registerItemByType(registryObject, ChemicalItemType.INGOT);
+                        BlockRegistry.BLOCKS.register(String.format("%s_metal_block", elementName),
+                            StartupProfiler.timed(Phase.BLOCK_ITEM_REGISTRATION,
+                                () -> new GeneratedChemicalBlock(new ResourceLocation(ChemLib.MODID, elementName),
+                                    ChemicalBlockType.METAL,
+                                    BlockRegistry.METAL_BLOCKS,
+                                    BlockRegistry.METAL_PROPERTIES)));
+                        BlockRegistry.getRegistryObjectByName(String.format("%s_metal_block", elementName))
+                            .ifPresent(block -> {
+                                ModelRegistryUtils.registerModel(block.getId(),
+                                    "",
+                                    ModelRegistryUtils.METAL_BLOCK_MODEL);
+                                ItemRegistryUtils.fromChemicalBlock(block, new Item.Properties());
+                            });
                     }
-                    case LIQUID, GAS -> {
-                        final var hasFluid = object.has("has_fluid") && object.get("has_fluid").getAsBoolean();
-                        if (!hasFluid) {
-                            final var properties = object.get("fluid_properties").getAsJsonObject();
-                            final var slopeFindDistance = properties.has("slope_find_distance") ? properties.get(
-                                "slope_find_distance").getAsInt() : 4;
-                            final var decreasePerBlock = properties.has("decrease_per_block") ? properties.get(
-                                "decrease_per_block").getAsInt() : 1;
-
-                            if (group == 18) {
-                                BlockRegistry.BLOCKS.register(String.format("%s_lamp_block", elementName),
-                                    () -> new GeneratedLampBlock(new ResourceLocation(ChemLib.MODID, elementName),
-                                        ChemicalBlockType.LAMP,
-                                        BlockRegistry.LAMP_BLOCKS,
-                                        BlockRegistry.LAMP_PROPERTIES));
-                                BlockRegistry.getRegistryObjectByName(String.format("%s_lamp_block",
-                                    elementName)).ifPresent(block -> ItemRegistryUtils.lampFromChemicalBlock(block,
-                                    new Item.Properties()));
-                            }
-                            FluidRegistryUtils.registerFluid(elementName,
-                                ChemicalRegistry.fluidTypePropertiesFactory(properties, ChemLib.MODID, elementName),
-                                Integer.parseInt(color, 16) | 0xFF000000,
-                                slopeFindDistance,
-                                decreasePerBlock);
-                        }
+                }
+                ItemRegistryUtils.registerItemByType(registryObject, ChemicalItemType.DUST);
+            }
+            case LIQUID, GAS -> {
+                final var fluid = definition.fluid();
+                if (!definition.hasFluid() && fluid != null) {
+                    if (definition.group() == 18) {
+                        BlockRegistry.BLOCKS.register(String.format("%s_lamp_block", elementName),
+                            StartupProfiler.timed(Phase.BLOCK_ITEM_REGISTRATION,
+                                () -> new GeneratedLampBlock(new ResourceLocation(ChemLib.MODID, elementName),
+                                    ChemicalBlockType.LAMP,
+                                    BlockRegistry.LAMP_BLOCKS,
+                                    BlockRegistry.LAMP_PROPERTIES)));
+                        BlockRegistry.getRegistryObjectByName(String.format("%s_lamp_block", elementName))
+                            .ifPresent(block -> {
+                                ModelRegistryUtils.registerModel(block.getId(),
+                                    "lit=false",
+                                    ModelRegistryUtils.LAMP_BLOCK_MODEL);
+                                ModelRegistryUtils.registerModel(block.getId(),
+                                    "lit=true",
+                                    ModelRegistryUtils.LAMP_ON_BLOCK_MODEL);
+                                ItemRegistryUtils.lampFromChemicalBlock(block, new Item.Properties());
+                            });
                     }
+                    FluidRegistryUtils.registerFluid(elementName,
+                        ChemicalRegistry.fluidTypePropertiesFactory(fluid.properties(), ChemLib.MODID, elementName),
+                        FluidTextures.fromProperties(elementName, fluid.properties()),
+                        definition.color(),
+                        fluid.slopeFindDistance(),
+                        fluid.decreasePerBlock());
                 }
             }
         }
     }
 
     @Unique
-    private static void chemlibcc$registerCompounds(final JsonObject rootObject) {
-        for (final var jsonElement : rootObject.getAsJsonArray("compounds")) {
-            final var object = jsonElement.getAsJsonObject();
-            final var compoundName = object.get("name").getAsString();
-            final var displayName = object.get("display_name").getAsString();
-            final var matterState = MatterState.valueOf(object.get("matter_state").getAsString().toUpperCase(Locale.ROOT));
-            final var description = object.has("description") ? object.get("description").getAsString() : "";
-            final var color = object.get("color").getAsString();
-
-            final var components = object.getAsJsonArray("components");
-            final var componentMap = new LinkedHashMap<String, Integer>();
-            for (final var component : components) {
-                final var componentObject = component.getAsJsonObject();
-                final var componentName = componentObject.get("name").getAsString();
-                final var count = componentObject.has("count") ? componentObject.get("count").getAsInt() : 1;
-                componentMap.put(componentName, count);
-            }
+    private static void chemlibcc$registerCompound(final CompoundDefinition definition) {
+        final var compoundName = definition.name();
+        final var matterState = definition.matterState();
 
-            ItemRegistry.REGISTRY_COMPOUNDS.register(compoundName,
-                () -> new GeneratedCompoundItem(compoundName,
-                    displayName,
-                    matterState,
-                    componentMap,
-                    description,
-                    color,
-                    ChemicalRegistry.mobEffectsFactory(object)));
+        final var store = ChemicalPropertyStore.get();
+        final var chemicalId = store.getId(compoundName);
+        ItemRegistry.REGISTRY_COMPOUNDS.register(compoundName,
+            StartupProfiler.timed(Phase.BLOCK_ITEM_REGISTRATION, () -> new GeneratedCompoundItem(store, chemicalId)));
+        // @formatter:off
+        ModelRegistryUtils.registerItemModel(new ResourceLocation(ChemLib.MODID, compoundName), switch (matterState) {
+            case SOLID -> ModelRegistryUtils.COMPOUND_MODEL;
+            case GAS -> ModelRegistryUtils.COMPOUND_GAS_MODEL;
+            case LIQUID -> ModelRegistryUtils.COMPOUND_LIQUID_MODEL;
+        });
+        // @formatter:on
 
-            switch (matterState) {
-                case SOLID -> {
-                    final var hasItem = object.get("has_item").getAsBoolean();
-                    if (!hasItem) {
+        switch (matterState) {
+            case SOLID -> {
+                if (!definition.hasItem()) {
+                    ItemRegistryUtils.registerItemByType(ItemRegistry.getRegistryObject(ItemRegistry.REGISTRY_COMPOUNDS,
+                        compoundName), ChemicalItemType.COMPOUND);
+                    if (compoundName.equals("polyvinyl_chloride")) {
                         ItemRegistryUtils.registerItemByType(ItemRegistry.getRegistryObject(ItemRegistry.REGISTRY_COMPOUNDS,
-                            compoundName), ChemicalItemType.COMPOUND);
-                        if (compoundName.equals("polyvinyl_chloride")) {
-                            ItemRegistryUtils.registerItemByType(ItemRegistry.getRegistryObject(ItemRegistry.REGISTRY_COMPOUNDS,
-                                compoundName), ChemicalItemType.PLATE);
-                        }
+                            compoundName), ChemicalItemType.PLATE);
                     }
                 }
-                case LIQUID, GAS -> {
-                    final var hasFluid = object.has("has_fluid") && object.get("has_fluid").getAsBoolean();
-                    if (!hasFluid) {
-                        final var properties = object.get("fluid_properties").getAsJsonObject();
-                        final var slopeFindDistance = properties.has("slope_find_distance") ? properties.get(
-                            "slope_find_distance").getAsInt() : 4;
-                        final var decreasePerBlock = properties.has("decrease_per_block") ? properties.get(
-                            "decrease_per_block").getAsInt() : 1;
-
-                        switch (matterState) {
-                            case LIQUID, GAS -> FluidRegistryUtils.registerFluid(compoundName,
-                                ChemicalRegistry.fluidTypePropertiesFactory(properties, ChemLib.MODID, compoundName),
-                                Integer.parseInt(color, 16) | 0xFF000000,
-                                slopeFindDistance,
-                                decreasePerBlock);
-                        }
-                    }
+            }
+            case LIQUID, GAS -> {
+                final var fluid = definition.fluid();
+                if (!definition.hasFluid() && fluid != null) {
+                    FluidRegistryUtils.registerFluid(compoundName,
+                        ChemicalRegistry.fluidTypePropertiesFactory(fluid.properties(), ChemLib.MODID, compoundName),
+                        FluidTextures.fromProperties(compoundName, fluid.properties()),
+                        definition.color(),
+                        fluid.slopeFindDistance(),
+                        fluid.decreasePerBlock());
                 }
             }
         }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.mixin;
+
+import io.karma.chemlibcc.network.ConfigStreaming;
+import net.minecraft.network.Connection;
+import net.minecraftforge.network.HandshakeHandler;
+import net.minecraftforge.network.NetworkRegistry;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.List;
+
+/**
+ * Holds back the streamed chemical definitions until the client replied
+ * to their offer, and skips them if it already has them.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+@Mixin(value = HandshakeHandler.class, remap = false)
+public abstract class HandshakeHandlerMixin {
+    @Shadow
+    @Final
+    private Connection manager;
+    @Shadow
+    private List<NetworkRegistry.LoginPayload> messageList;
+    @Shadow
+    private int packetPosition;
+
+    @Inject(method = "tickServer", at = @At("HEAD"), cancellable = true)
+    private void onTickServer(final CallbackInfoReturnable<Boolean> cbi) {
+        while (packetPosition < messageList.size() && ConfigStreaming.isChunk(messageList.get(packetPosition))) {
+            final var isTransferNeeded = ConfigStreaming.isTransferNeeded(manager);
+            if (isTransferNeeded == null) {
+                cbi.setReturnValue(false);
+                cbi.cancel();
+                return;
+            }
+            if (isTransferNeeded) {
+                return;
+            }
+            packetPosition++;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.mixin;
+
+import io.karma.chemlibcc.util.GeneratedItem;
+import io.karma.chemlibcc.util.ModelRegistryUtils;
+import net.minecraft.client.renderer.ItemModelShaper;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.world.item.ItemStack;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Resolves the models of generated items on demand instead of
+ * looking them up in the baked model map.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+@Mixin(ItemModelShaper.class)
+public final class ItemModelShaperMixin {
+    @Inject(method = "getItemModel(Lnet/minecraft/world/item/ItemStack;)Lnet/minecraft/client/resources/model/BakedModel;",
+        at = @At("HEAD"),
+        cancellable = true)
+    private void onGetItemModel(final ItemStack stack, final CallbackInfoReturnable<BakedModel> cbi) {
+        // This runs for every rendered item, so all other items have to bail out before any lookup
+        if (!(stack.getItem() instanceof GeneratedItem)) {
+            return;
+        }
+        final var model = ModelRegistryUtils.getItemModel(stack.getItem());
+        if (model != null) {
+            cbi.setReturnValue(model);
+        }
+    }
+}
@@ -15,19 +15,28 @@
 
 package io.karma.chemlibcc.mixin;
 
+import com.smashingmods.chemlib.ChemLib;
 import com.smashingmods.chemlib.client.jei.JEIPlugin;
 import com.smashingmods.chemlib.registry.ItemRegistry;
+import io.karma.chemlibcc.ChemLibCC;
 import io.karma.chemlibcc.item.GeneratedCompoundItem;
+import io.karma.chemlibcc.util.StartupProfiler;
+import io.karma.chemlibcc.util.StartupProfiler.Phase;
 import mezz.jei.api.constants.VanillaTypes;
 import mezz.jei.api.registration.IRecipeRegistration;
-import net.minecraft.network.chat.MutableComponent;
-import net.minecraft.network.chat.contents.TranslatableContents;
+import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author Alexander Hinze
  * @since 09/10/2024
@@ -36,27 +45,44 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 public final class JEIPluginMixin {
     @Inject(method = "registerRecipes", at = @At("HEAD"), cancellable = true)
     private void onRegisterRecipes(final IRecipeRegistration registration, final CallbackInfo cbi) {
+        final var startTime = System.nanoTime();
+        // Items sharing an equal description are registered in a single call
+        final var groups = new LinkedHashMap<Component, List<ItemStack>>();
+
+        final var elementDescription = Component.translatable("chemlib.jei.element.description");
         for (final var element : ItemRegistry.getElements()) {
-            registration.addIngredientInfo(new ItemStack(element),
-                VanillaTypes.ITEM_STACK,
-                MutableComponent.create(new TranslatableContents("chemlib.jei.element.description",
-                    null,
-                    TranslatableContents.NO_ARGS)));
+            chemlibcc$addToGroup(groups, elementDescription, new ItemStack(element));
         }
 
         for (final var compound : ItemRegistry.getCompounds()) {
-            if (compound instanceof GeneratedCompoundItem generatedCompound) {
-                registration.addIngredientInfo(new ItemStack(compound),
-                    VanillaTypes.ITEM_STACK,
-                    generatedCompound.getDescription());
-                continue;
-            }
-            registration.addIngredientInfo(new ItemStack(compound),
-                VanillaTypes.ITEM_STACK,
-                MutableComponent.create(new TranslatableContents(String.format("chemlib.jei.compound.%s.description",
-                    compound.getChemicalName()), null, TranslatableContents.NO_ARGS)));
+            // Generated compounds fall back to their configured text, but stay translatable after switching languages
+            final var description = compound instanceof GeneratedCompoundItem generatedCompound
+                ? generatedCompound.getDescription()
+                : Component.translatable(String.format("%s.jei.compound.%s.description",
+                    ChemLib.MODID,
+                    compound.getChemicalName()));
+            chemlibcc$addToGroup(groups, description, new ItemStack(compound));
+        }
+
+        var itemCount = 0;
+        for (final var group : groups.entrySet()) {
+            final var stacks = group.getValue();
+            registration.addIngredientInfo(stacks, VanillaTypes.ITEM_STACK, group.getKey());
+            itemCount += stacks.size();
         }
+        StartupProfiler.record(Phase.JEI_REGISTRATION, startTime);
+        ChemLibCC.LOGGER.info("Registered JEI info for {} items in {} groups in {}ms",
+            itemCount,
+            groups.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
 
         cbi.cancel();
     }
+
+    @Unique
+    private static void chemlibcc$addToGroup(final LinkedHashMap<Component, List<ItemStack>> groups,
+                                             final Component description,
+                                             final ItemStack stack) {
+        groups.computeIfAbsent(description, key -> new ArrayList<>()).add(stack);
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.mixin;
+
+import io.karma.chemlibcc.network.ChemLibCCNetwork;
+import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.NetworkRegistry;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves the streamed chemical definitions right behind the mod list, so a
+ * client with different chemicals receives them before it checks the
+ * registry snapshots of the server and disconnects.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+@Mixin(value = NetworkRegistry.class, remap = false)
+public final class NetworkRegistryMixin {
+    @Inject(method = "gatherLoginPayloads", at = @At("RETURN"))
+    private static void onGatherLoginPayloads(final NetworkDirection direction,
+                                              final boolean isLocal,
+                                              final CallbackInfoReturnable<List<NetworkRegistry.LoginPayload>> cbi) {
+        final var payloads = cbi.getReturnValue();
+        if (payloads.isEmpty()) {
+            return;
+        }
+        final var streamed = new ArrayList<NetworkRegistry.LoginPayload>();
+        payloads.removeIf(payload -> {
+            if (!ChemLibCCNetwork.CHANNEL_NAME.equals(payload.getChannelName())) {
+                return false;
+            }
+            streamed.add(payload);
+            return true;
+        });
+        // The first payload is the mod list, which has to be sent before anything else
+        payloads.addAll(Math.min(1, payloads.size()), streamed);
+    }
+}
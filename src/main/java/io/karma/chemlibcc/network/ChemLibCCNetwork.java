@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.network;
+
+import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.config.ContentFingerprint;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.HandshakeHandler;
+import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.NetworkRegistry;
+import net.minecraftforge.network.simple.SimpleChannel;
+
+/**
+ * The network channel of the mod. Its protocol version is the
+ * {@link ContentFingerprint} of the loaded chemicals, so Forge rejects
+ * clients with different chemical configs while negotiating channels,
+ * before any registry data is synchronized. Servers and clients which
+ * take part in {@link ConfigStreaming} accept differing fingerprints.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ChemLibCCNetwork {
+    public static final ResourceLocation CHANNEL_NAME = new ResourceLocation(ChemLibCC.MODID, "main");
+    private static SimpleChannel channel;
+
+    // @formatter:off
+    private ChemLibCCNetwork() {}
+    // @formatter:on
+
+    public static void register() {
+        channel = NetworkRegistry.ChannelBuilder.named(CHANNEL_NAME)
+            .networkProtocolVersion(() -> ContentFingerprint.get().toString())
+            .clientAcceptedVersions(version -> accepts(false, version))
+            .serverAcceptedVersions(version -> accepts(true, version))
+            .simpleChannel();
+        channel.messageBuilder(ConfigOfferMessage.class, 0, NetworkDirection.LOGIN_TO_CLIENT)
+            .loginIndex(ConfigOfferMessage::getLoginIndex, ConfigOfferMessage::setLoginIndex)
+            .encoder(ConfigOfferMessage::encode)
+            .decoder(ConfigOfferMessage::decode)
+            .buildLoginPacketList(ConfigStreaming::createOfferMessages)
+            .consumerNetworkThread(ConfigStreaming::handleOffer)
+            .add();
+        channel.messageBuilder(ConfigRequestMessage.class, 1, NetworkDirection.LOGIN_TO_SERVER)
+            .loginIndex(ConfigRequestMessage::getAsInt, ConfigRequestMessage::setLoginIndex)
+            .encoder(ConfigRequestMessage::encode)
+            .decoder(ConfigRequestMessage::decode)
+            .consumerNetworkThread(HandshakeHandler.indexFirst((handler, message, context) -> ConfigStreaming.handleRequest(
+                message,
+                context)))
+            .add();
+        channel.messageBuilder(ConfigChunkMessage.class, 2, NetworkDirection.LOGIN_TO_CLIENT)
+            .loginIndex(ConfigChunkMessage::getLoginIndex, ConfigChunkMessage::setLoginIndex)
+            .encoder(ConfigChunkMessage::encode)
+            .decoder(ConfigChunkMessage::decode)
+            .buildLoginPacketList(ConfigStreaming::createChunkMessages)
+            .noResponse()
+            .consumerNetworkThread(ConfigStreaming::handleChunk)
+            .add();
+    }
+
+    public static SimpleChannel getChannel() {
+        return channel;
+    }
+
+    private static boolean accepts(final boolean isServer, final String version) {
+        final var side = isServer ? "client" : "server";
+        final var local = ContentFingerprint.get();
+        if (local.toString().equals(version)) {
+            return true;
+        }
+        final var remote = ContentFingerprint.parse(version);
+        if (remote == null) {
+            ChemLibCC.LOGGER.error("Rejecting {} without ChemLib CC or with an incompatible version ({})",
+                side,
+                version);
+            return false;
+        }
+        final var isStreamed = isServer ? ConfigStreaming.STREAM_CONFIG : ConfigStreaming.ACCEPT_REMOTE_CONFIG;
+        if (isStreamed) {
+            ChemLibCC.LOGGER.info("Accepting {} with different chemical configs to stream them: {}",
+                side,
+                local.describeDifference(remote));
+            return true;
+        }
+        ChemLibCC.LOGGER.error("Rejecting {} with different chemical configs: {}",
+            side,
+            local.describeDifference(remote));
+        return false;
+    }
+}
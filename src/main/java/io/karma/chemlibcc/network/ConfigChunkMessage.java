@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * One chunk of the compressed chemical definitions of the server,
+ * sent to the client during login.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ConfigChunkMessage {
+    private final String fingerprint;
+    private final int index;
+    private final int count;
+    private final byte[] data;
+    private int loginIndex;
+
+    public ConfigChunkMessage(final String fingerprint, final int index, final int count, final byte[] data) {
+        this.fingerprint = fingerprint;
+        this.index = index;
+        this.count = count;
+        this.data = data;
+    }
+
+    public static ConfigChunkMessage decode(final FriendlyByteBuf buffer) {
+        return new ConfigChunkMessage(buffer.readUtf(), buffer.readVarInt(), buffer.readVarInt(), buffer.readByteArray());
+    }
+
+    public void encode(final FriendlyByteBuf buffer) {
+        buffer.writeUtf(fingerprint);
+        buffer.writeVarInt(index);
+        buffer.writeVarInt(count);
+        buffer.writeByteArray(data);
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public int getLoginIndex() {
+        return loginIndex;
+    }
+
+    public void setLoginIndex(final int loginIndex) {
+        this.loginIndex = loginIndex;
+    }
+}
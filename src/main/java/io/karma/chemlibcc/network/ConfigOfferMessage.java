@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * Announces the fingerprint of the chemical definitions of the server
+ * during login, so the client can tell whether it needs them streamed.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ConfigOfferMessage {
+    private final String fingerprint;
+    private int loginIndex;
+
+    public ConfigOfferMessage(final String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public static ConfigOfferMessage decode(final FriendlyByteBuf buffer) {
+        return new ConfigOfferMessage(buffer.readUtf());
+    }
+
+    public void encode(final FriendlyByteBuf buffer) {
+        buffer.writeUtf(fingerprint);
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public int getLoginIndex() {
+        return loginIndex;
+    }
+
+    public void setLoginIndex(final int loginIndex) {
+        this.loginIndex = loginIndex;
+    }
+}
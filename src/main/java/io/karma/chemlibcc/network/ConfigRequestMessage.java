@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.function.IntSupplier;
+
+/**
+ * The reply of the client to a {@link ConfigOfferMessage}, telling the
+ * server whether it has to send the chunks of its chemical definitions.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ConfigRequestMessage implements IntSupplier {
+    private final boolean isTransferNeeded;
+    private int loginIndex;
+
+    public ConfigRequestMessage(final boolean isTransferNeeded) {
+        this.isTransferNeeded = isTransferNeeded;
+    }
+
+    public static ConfigRequestMessage decode(final FriendlyByteBuf buffer) {
+        return new ConfigRequestMessage(buffer.readBoolean());
+    }
+
+    public void encode(final FriendlyByteBuf buffer) {
+        buffer.writeBoolean(isTransferNeeded);
+    }
+
+    public boolean isTransferNeeded() {
+        return isTransferNeeded;
+    }
+
+    @Override
+    public int getAsInt() {
+        return loginIndex;
+    }
+
+    public void setLoginIndex(final int loginIndex) {
+        this.loginIndex = loginIndex;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.network;
+
+import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.config.ChemicalDefinitions;
+import io.karma.chemlibcc.config.ChemicalReloader;
+import io.karma.chemlibcc.config.ContentFingerprint;
+import io.karma.chemlibcc.config.RemoteDefinitions;
+import io.netty.util.AttributeKey;
+import net.minecraft.network.Connection;
+import net.minecraft.network.chat.Component;
+import net.minecraftforge.network.NetworkEvent;
+import net.minecraftforge.network.NetworkRegistry;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Streams the chemical definitions of a server to joining clients.
+ * <p>
+ * Servers started with {@code -Dchemlibcc.streamConfig=true} send their
+ * compressed definitions in chunks during login. Clients started with
+ * {@code -Dchemlibcc.acceptRemoteConfig=true} join such servers even if
+ * their own configs differ: they store the received definitions by their
+ * fingerprint, select them for the next starts and disconnect, since
+ * chemicals can only be registered while the game starts.
+ * <p>
+ * The server first offers the fingerprint of its definitions and holds
+ * back the chunks until the client replied. Clients which already have
+ * the definitions, loaded or cached, decline them, so only the first join
+ * with new definitions transfers them.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ConfigStreaming {
+    public static final boolean STREAM_CONFIG = Boolean.getBoolean("chemlibcc.streamConfig");
+    public static final boolean ACCEPT_REMOTE_CONFIG = Boolean.getBoolean("chemlibcc.acceptRemoteConfig");
+    private static final int CHUNK_SIZE = 256 * 1024;
+    private static final String CHUNK_CONTEXT = "Chemical definitions";
+    private static final AttributeKey<Boolean> TRANSFER_NEEDED = AttributeKey.valueOf(String.format("%s:transfer_needed",
+        ChemLibCC.MODID));
+    private static volatile Payload payload;
+    private static Download download;
+
+    // @formatter:off
+    private ConfigStreaming() {}
+    // @formatter:on
+
+    public static List<Pair<String, ConfigOfferMessage>> createOfferMessages(final boolean isLocal) {
+        if (!STREAM_CONFIG || isLocal) {
+            return List.of();
+        }
+        final var payload = getPayload();
+        if (payload == null) {
+            return List.of();
+        }
+        return List.of(Pair.of("Chemical definitions offer", new ConfigOfferMessage(payload.fingerprint)));
+    }
+
+    public static List<Pair<String, ConfigChunkMessage>> createChunkMessages(final boolean isLocal) {
+        if (!STREAM_CONFIG || isLocal) {
+            return List.of();
+        }
+        final var payload = getPayload();
+        if (payload == null) {
+            return List.of();
+        }
+        final var chunks = payload.chunks;
+        final var messages = new ArrayList<Pair<String, ConfigChunkMessage>>(chunks.size());
+        for (var i = 0; i < chunks.size(); i++) {
+            messages.add(Pair.of(String.format("%s %d/%d", CHUNK_CONTEXT, i + 1, chunks.size()),
+                new ConfigChunkMessage(payload.fingerprint, i, chunks.size(), chunks.get(i))));
+        }
+        return messages;
+    }
+
+    private static @Nullable Payload getPayload() {
+        // Only what is actually registered may be streamed, never the unvalidated configs on disk.
+        // The encoded definitions are shared by all joining players and only rebuilt after a reload.
+        final var definitions = ChemicalReloader.getCurrent();
+        var payload = ConfigStreaming.payload;
+        if (payload != null && payload.definitions == definitions) {
+            return payload;
+        }
+        try {
+            final var data = RemoteDefinitions.encode(definitions);
+            final var chunks = new ArrayList<byte[]>();
+            for (var offset = 0; offset < data.length; offset += CHUNK_SIZE) {
+                chunks.add(Arrays.copyOfRange(data, offset, Math.min(data.length, offset + CHUNK_SIZE)));
+            }
+            payload = new Payload(definitions, ContentFingerprint.compute(definitions).toString(), List.copyOf(chunks));
+            ConfigStreaming.payload = payload;
+            ChemLibCC.LOGGER.info("Prepared {} bytes of chemical definitions in {} chunks for streaming",
+                data.length,
+                chunks.size());
+            return payload;
+        }
+        catch (IOException error) {
+            ChemLibCC.LOGGER.error("Could not encode chemical definitions for streaming: {}", error);
+            return null;
+        }
+    }
+
+    public static boolean isChunk(final NetworkRegistry.LoginPayload payload) {
+        return ChemLibCCNetwork.CHANNEL_NAME.equals(payload.getChannelName())
+               && payload.getMessageContext().startsWith(CHUNK_CONTEXT);
+    }
+
+    /**
+     * @return whether the client on the given connection requested the chunks,
+     *     or null if it didn't reply to the offer yet.
+     */
+    public static @Nullable Boolean isTransferNeeded(final Connection connection) {
+        return connection.channel().attr(TRANSFER_NEEDED).get();
+    }
+
+    public static void handleOffer(final ConfigOfferMessage message, final Supplier<NetworkEvent.Context> contextSupplier) {
+        final var context = contextSupplier.get();
+        context.setPacketHandled(true);
+        final var fingerprint = ContentFingerprint.parse(message.getFingerprint());
+        final var isRemote = ACCEPT_REMOTE_CONFIG && fingerprint != null && !fingerprint.equals(ContentFingerprint.get());
+        final var isCached = isRemote && RemoteDefinitions.contains(fingerprint);
+        ChemLibCCNetwork.getChannel().reply(new ConfigRequestMessage(isRemote && !isCached), context);
+        if (isCached) {
+            ChemLibCC.LOGGER.info("Chemical definitions of the server are cached already ({})", fingerprint);
+            context.getNetworkManager().disconnect(select(fingerprint));
+        }
+    }
+
+    public static void handleRequest(final ConfigRequestMessage message,
+                                     final Supplier<NetworkEvent.Context> contextSupplier) {
+        final var context = contextSupplier.get();
+        context.setPacketHandled(true);
+        context.getNetworkManager().channel().attr(TRANSFER_NEEDED).set(message.isTransferNeeded());
+    }
+
+    public static void handleChunk(final ConfigChunkMessage message, final Supplier<NetworkEvent.Context> contextSupplier) {
+        final var context = contextSupplier.get();
+        context.setPacketHandled(true);
+        final var fingerprint = ContentFingerprint.parse(message.getFingerprint());
+        if (fingerprint == null || fingerprint.equals(ContentFingerprint.get())) {
+            return;
+        }
+        final var reason = receive(fingerprint, message);
+        if (reason != null) {
+            context.getNetworkManager().disconnect(reason);
+        }
+    }
+
+    private static synchronized @Nullable Component receive(final ContentFingerprint fingerprint,
+                                                            final ConfigChunkMessage message) {
+        if (!ACCEPT_REMOTE_CONFIG) {
+            return null;
+        }
+        if (message.getIndex() == 0 || download == null || !download.fingerprint.equals(fingerprint)) {
+            download = new Download(fingerprint, new ByteArrayOutputStream());
+        }
+        download.data.writeBytes(message.getData());
+        if (message.getIndex() < message.getCount() - 1) {
+            return null;
+        }
+        final var data = download.data.toByteArray();
+        download = null;
+        try {
+            RemoteDefinitions.store(fingerprint, data);
+            ChemLibCC.LOGGER.info("Received {} bytes of chemical definitions from the server", data.length);
+        }
+        catch (IOException error) {
+            ChemLibCC.LOGGER.error("Received invalid chemical definitions from the server: {}", error);
+            return Component.translatable(String.format("disconnect.%s.invalid_config", ChemLibCC.MODID));
+        }
+        return select(fingerprint);
+    }
+
+    private static Component select(final ContentFingerprint fingerprint) {
+        try {
+            RemoteDefinitions.select(fingerprint);
+        }
+        catch (IOException error) {
+            ChemLibCC.LOGGER.error("Could not select the chemical definitions of the server: {}", error);
+            return Component.translatable(String.format("disconnect.%s.invalid_config", ChemLibCC.MODID));
+        }
+        ChemLibCC.LOGGER.warn("Selected the chemical definitions of the server ({}), a restart is required to join",
+            fingerprint);
+        return Component.translatable(String.format("disconnect.%s.restart_required", ChemLibCC.MODID));
+    }
+
+    private record Payload(ChemicalDefinitions definitions, String fingerprint, List<byte[]> chunks) {
+    }
+
+    private record Download(ContentFingerprint fingerprint, ByteArrayOutputStream data) {
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.util;
+
+/**
+ * Standard atomic weights in g/mol, indexed by atomic number. Elements
+ * without a stable isotope use the mass number of their longest-lived
+ * isotope.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class AtomicWeights {
+    // @formatter:off
+    private static final double[] WEIGHTS = {
+        Double.NaN,
+        1.008, 4.0026, 6.94, 9.0122, 10.81, 12.011, 14.007, 15.999, 18.998, 20.180,
+        22.990, 24.305, 26.982, 28.085, 30.974, 32.06, 35.45, 39.95, 39.098, 40.078,
+        44.956, 47.867, 50.942, 51.996, 54.938, 55.845, 58.933, 58.693, 63.546, 65.38,
+        69.723, 72.630, 74.922, 78.971, 79.904, 83.798, 85.468, 87.62, 88.906, 91.224,
+        92.906, 95.95, 98, 101.07, 102.91, 106.42, 107.87, 112.41, 114.82, 118.71,
+        121.76, 127.60, 126.90, 131.29, 132.91, 137.33, 138.91, 140.12, 140.91, 144.24,
+        145, 150.36, 151.96, 157.25, 158.93, 162.50, 164.93, 167.26, 168.93, 173.05,
+        174.97, 178.49, 180.95, 183.84, 186.21, 190.23, 192.22, 195.08, 196.97, 200.59,
+        204.38, 207.2, 208.98, 209, 210, 222, 223, 226, 227, 232.04,
+        231.04, 238.03, 237, 244, 243, 247, 247, 251, 252, 257,
+        258, 259, 266, 267, 268, 269, 270, 269, 278, 281,
+        282, 285, 286, 289, 290, 293, 294, 294
+    };
+    // @formatter:on
+
+    // @formatter:off
+    private AtomicWeights() {}
+    // @formatter:on
+
+    /**
+     * @return the standard atomic weight of the given element, or NaN if it is not known.
+     */
+    public static double get(final int atomicNumber) {
+        if (atomicNumber <= 0 || atomicNumber >= WEIGHTS.length) {
+            return Double.NaN;
+        }
+        return WEIGHTS[atomicNumber];
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.util;
+
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * The derived composition of a compound with all nested compounds
+ * resolved down to their elements.
+ *
+ * @param formula            the formula in Hill notation.
+ * @param molarMass          the molar mass in g/mol, NaN if any element has no known atomic weight.
+ * @param elements           the amount of every element by its name, in the order of the formula.
+ * @param formulaComponent   the tooltip line of the formula.
+ * @param molarMassComponent the tooltip line of the molar mass, null if the molar mass is unknown.
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public record ChemicalFormula(String formula,
+                              double molarMass,
+                              Map<String, Integer> elements,
+                              Component formulaComponent,
+                              @Nullable Component molarMassComponent) {
+    public boolean hasMolarMass() {
+        return !Double.isNaN(molarMass);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.karma.chemlibcc.util;
+
+import com.smashingmods.chemlib.ChemLib;
+import io.karma.chemlibcc.ChemLibCC;
+import net.minecraft.client.resources.language.I18n;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Builds the names of the items derived from generated chemicals,
+ * like their dusts, plates and blocks.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ChemicalNames {
+    // @formatter:off
+    private ChemicalNames() {}
+    // @formatter:on
+
+    /**
+     * @param suffix the name of the item type without namespace, like {@code plate}, {@code dust} or {@code lamp}.
+     * @return the translated name of the chemical, or its display name if there is none, followed by the type.
+     */
+    public static Component createDerivedName(final String chemicalName,
+                                              final String displayName,
+                                              final String suffix) {
+        return Component.literal(String.format("%s %s",
+            getLocalizedName(chemicalName, displayName),
+            I18n.get(String.format("%s.%s", ChemLibCC.MODID, suffix))));
+    }
+
+    private static String getLocalizedName(final String chemicalName, final String displayName) {
+        // Names are unique across elements and compounds, so at most one of these exists
+        final var elementNameKey = String.format("item.%s.element_%s", ChemLib.MODID, chemicalName);
+        if (I18n.exists(elementNameKey)) {
+            return I18n.get(elementNameKey);
+        }
+        final var compoundNameKey = String.format("item.%s.compound_%s", ChemLib.MODID, chemicalName);
+        if (I18n.exists(compoundNameKey)) {
+            return I18n.get(compoundNameKey);
+        }
+        return displayName;
+    }
+}
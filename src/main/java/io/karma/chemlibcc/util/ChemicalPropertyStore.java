@@ -0,0 +1,414 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.util;
+
+import com.smashingmods.chemlib.api.MatterState;
+import com.smashingmods.chemlib.api.MetalType;
+import io.karma.chemlibcc.config.ChemicalDefinitions;
+import io.karma.chemlibcc.config.EffectDefinition;
+import net.minecraft.world.effect.MobEffectInstance;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Columnar storage for the properties of all generated chemicals. Every
+ * chemical is identified by a dense id, elements come first followed by
+ * compounds. Numbers are kept in primitive arrays, strings and effect sets
+ * in interning tables and the components of all compounds in one flat
+ * array. The generated items are views which read their properties from
+ * here by id, so hot reloads only have to update the store. ChemLib's
+ * constructors only receive values shared with the store, like interned
+ * strings and the one component map of every compound, so the items don't
+ * copy any properties.
+ * <p>
+ * The properties which can be hot reloaded are mutable; writers have to
+ * call {@link #publish()} afterwards to make their changes visible.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ChemicalPropertyStore {
+    private static final MatterState[] MATTER_STATES = MatterState.values();
+    private static final MetalType[] METAL_TYPES = MetalType.values();
+    private static volatile ChemicalPropertyStore instance = build(new ChemicalDefinitions(List.of(), List.of()));
+
+    private final InternTable<String> strings = new InternTable<>();
+    private final InternTable<List<EffectDefinition>> effectSets = new InternTable<>();
+    private volatile Object[] resolvedEffects = new Object[0];
+    private final HashMap<String, Integer> ids;
+    private final int elementCount;
+    private final int chemicalCount;
+
+    // Structural properties, fixed after registration
+    private final int[] nameIds;
+    private final int[] abbreviationIds;
+    private final int[] groupNameIds;
+    private final int[] atomicNumbers;
+    private final byte[] groups;
+    private final byte[] periods;
+    private final byte[] matterStates;
+    private final byte[] metalTypes;
+    private final boolean[] artificial;
+    private final int[] componentOffsets;
+    private final int[] componentNameIds;
+    private final int[] componentCounts;
+    private final ComponentMap[] componentMaps;
+
+    // Properties which may be hot reloaded
+    private final int[] displayNameIds;
+    private final int[] descriptionIds;
+    private final int[] colors;
+    private final int[] effectSetIds;
+
+    private ChemicalPropertyStore(final int elementCount, final int compoundCount, final int componentCount) {
+        this.elementCount = elementCount;
+        chemicalCount = elementCount + compoundCount;
+        ids = new HashMap<>(chemicalCount * 2);
+        nameIds = new int[chemicalCount];
+        abbreviationIds = new int[chemicalCount];
+        groupNameIds = new int[chemicalCount];
+        atomicNumbers = new int[chemicalCount];
+        groups = new byte[chemicalCount];
+        periods = new byte[chemicalCount];
+        matterStates = new byte[chemicalCount];
+        metalTypes = new byte[chemicalCount];
+        artificial = new boolean[chemicalCount];
+        componentOffsets = new int[chemicalCount + 1];
+        componentNameIds = new int[componentCount];
+        componentCounts = new int[componentCount];
+        componentMaps = new ComponentMap[chemicalCount];
+        displayNameIds = new int[chemicalCount];
+        descriptionIds = new int[chemicalCount];
+        colors = new int[chemicalCount];
+        effectSetIds = new int[chemicalCount];
+    }
+
+    public static ChemicalPropertyStore get() {
+        return instance;
+    }
+
+    public static ChemicalPropertyStore build(final ChemicalDefinitions definitions) {
+        final var elements = definitions.elements();
+        final var compounds = definitions.compounds();
+        var componentCount = 0;
+        for (final var compound : compounds) {
+            componentCount += compound.components().size();
+        }
+        final var store = new ChemicalPropertyStore(elements.size(), compounds.size(), componentCount);
+        final var emptyString = store.strings.intern("");
+
+        var id = 0;
+        for (final var element : elements) {
+            store.ids.put(element.name(), id);
+            store.nameIds[id] = store.strings.intern(element.name());
+            store.abbreviationIds[id] = store.strings.intern(element.abbreviation());
+            store.groupNameIds[id] = store.strings.intern(element.groupName());
+            store.atomicNumbers[id] = element.atomicNumber();
+            store.groups[id] = (byte) element.group();
+            store.periods[id] = (byte) element.period();
+            store.matterStates[id] = (byte) element.matterState().ordinal();
+            store.metalTypes[id] = (byte) element.metalType().ordinal();
+            store.artificial[id] = element.artificial();
+            store.displayNameIds[id] = store.strings.intern(element.displayName());
+            store.descriptionIds[id] = emptyString;
+            store.colors[id] = element.color();
+            store.effectSetIds[id] = store.effectSets.intern(element.effects());
+            id++;
+        }
+        var componentIndex = 0;
+        for (final var compound : compounds) {
+            store.ids.put(compound.name(), id);
+            store.nameIds[id] = store.strings.intern(compound.name());
+            store.abbreviationIds[id] = emptyString;
+            store.groupNameIds[id] = emptyString;
+            store.matterStates[id] = (byte) compound.matterState().ordinal();
+            store.componentOffsets[id] = componentIndex;
+            for (final var component : compound.components().entrySet()) {
+                store.componentNameIds[componentIndex] = store.strings.intern(component.getKey());
+                store.componentCounts[componentIndex] = component.getValue();
+                componentIndex++;
+            }
+            store.displayNameIds[id] = store.strings.intern(compound.displayName());
+            store.descriptionIds[id] = store.strings.intern(compound.description());
+            store.colors[id] = compound.color();
+            store.effectSetIds[id] = store.effectSets.intern(compound.effects());
+            id++;
+        }
+        // Elements have no components, so their ranges stay empty at the start of the array
+        store.componentOffsets[store.chemicalCount] = componentIndex;
+        for (var compoundId = store.elementCount; compoundId < store.chemicalCount; compoundId++) {
+            store.componentMaps[compoundId] = new ComponentMap(store, compoundId);
+        }
+        instance = store;
+        return store;
+    }
+
+    public void publish() {
+        instance = this;
+    }
+
+    public int getId(final String name) {
+        return ids.getOrDefault(name, -1);
+    }
+
+    public int getChemicalCount() {
+        return chemicalCount;
+    }
+
+    public int getElementCount() {
+        return elementCount;
+    }
+
+    public boolean isElement(final int id) {
+        return id < elementCount;
+    }
+
+    public String getName(final int id) {
+        return strings.get(nameIds[id]);
+    }
+
+    public String getAbbreviation(final int id) {
+        return strings.get(abbreviationIds[id]);
+    }
+
+    public String getGroupName(final int id) {
+        return strings.get(groupNameIds[id]);
+    }
+
+    public int getAtomicNumber(final int id) {
+        return atomicNumbers[id];
+    }
+
+    public int getGroup(final int id) {
+        return groups[id];
+    }
+
+    public int getPeriod(final int id) {
+        return periods[id];
+    }
+
+    public MatterState getMatterState(final int id) {
+        return MATTER_STATES[matterStates[id]];
+    }
+
+    public MetalType getMetalType(final int id) {
+        return METAL_TYPES[metalTypes[id]];
+    }
+
+    public boolean isArtificial(final int id) {
+        return artificial[id];
+    }
+
+    public String getDisplayName(final int id) {
+        return strings.get(displayNameIds[id]);
+    }
+
+    public void setDisplayName(final int id, final String displayName) {
+        displayNameIds[id] = strings.intern(displayName);
+    }
+
+    public String getDescription(final int id) {
+        return strings.get(descriptionIds[id]);
+    }
+
+    public void setDescription(final int id, final String description) {
+        descriptionIds[id] = strings.intern(description);
+    }
+
+    public int getColor(final int id) {
+        return colors[id];
+    }
+
+    /**
+     * @return the color as hex string as expected by ChemLib, shared by all chemicals of the same color.
+     */
+    public String getColorString(final int id) {
+        return strings.get(strings.intern(ColorUtils.toHexString(colors[id])));
+    }
+
+    public void setColor(final int id, final int color) {
+        colors[id] = color;
+    }
+
+    public List<EffectDefinition> getEffectDefinitions(final int id) {
+        return effectSets.get(effectSetIds[id]);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<MobEffectInstance> getEffects(final int id) {
+        final var setId = effectSetIds[id];
+        var resolved = resolvedEffects;
+        if (setId < resolved.length && resolved[setId] != null) {
+            return (List<MobEffectInstance>) resolved[setId];
+        }
+        final var effects = EffectDefinition.createInstances(effectSets.get(setId));
+        synchronized (this) {
+            resolved = resolvedEffects;
+            if (setId >= resolved.length) {
+                resolved = Arrays.copyOf(resolved, effectSets.size());
+            }
+            else {
+                resolved = resolved.clone();
+            }
+            resolved[setId] = effects;
+            resolvedEffects = resolved;
+        }
+        return effects;
+    }
+
+    public void setEffects(final int id, final List<EffectDefinition> effects) {
+        effectSetIds[id] = effectSets.intern(EffectDefinition.intern(effects));
+    }
+
+    public int getUniqueEffectSetCount() {
+        return effectSets.size();
+    }
+
+    public int getComponentCount(final int id) {
+        return componentOffsets[id + 1] - componentOffsets[id];
+    }
+
+    public String getComponentName(final int id, final int index) {
+        return strings.get(componentNameIds[componentOffsets[id] + index]);
+    }
+
+    public int getComponentAmount(final int id, final int index) {
+        return componentCounts[componentOffsets[id] + index];
+    }
+
+    /**
+     * @return an immutable map of the components of the given compound in their declared order,
+     * the same instance on every call.
+     */
+    public Map<String, Integer> getComponents(final int id) {
+        final var components = componentMaps[id];
+        return components != null ? components : Map.of();
+    }
+
+    /**
+     * Estimates the heap retained by this store, assuming compressed
+     * references and Latin-1 strings. Resolved effect instances are
+     * shared with Minecraft and therefore not included.
+     *
+     * @return the estimated retained size in bytes.
+     */
+    public long estimateRetainedSize() {
+        var size = 8L * getArraySize(Integer.BYTES, chemicalCount);
+        size += 5L * getArraySize(Byte.BYTES, chemicalCount);
+        size += getArraySize(Integer.BYTES, chemicalCount + 1);
+        size += 2L * getArraySize(Integer.BYTES, componentNameIds.length);
+        // Every id is a map node holding a boxed integer, the name itself is shared with the string table
+        size += getArraySize(Integer.BYTES, Integer.highestOneBit(Math.max(ids.size() * 2, 1))) + 48L * ids.size();
+        size += strings.estimateSize(value -> 40L + ((value.length() + 7) & ~7));
+        size += effectSets.estimateSize(value -> getArraySize(Integer.BYTES, value.size()) + 32L * value.size());
+        // Every component map holds its entry list and entry set besides its entries
+        size += getArraySize(Integer.BYTES, chemicalCount);
+        for (var id = elementCount; id < chemicalCount; id++) {
+            final var count = getComponentCount(id);
+            size += 64L + getArraySize(Integer.BYTES, count) + 24L * count;
+        }
+        return size;
+    }
+
+    private static long getArraySize(final int elementSize, final int length) {
+        return (16L + (long) elementSize * length + 7) & ~7;
+    }
+
+    /**
+     * Append-only table of unique values. Readers never lock; the backing
+     * array is replaced as a whole whenever it has to grow.
+     */
+    private static final class InternTable<T> {
+        private final HashMap<T, Integer> ids = new HashMap<>();
+        private volatile Object[] values = new Object[16];
+        private int size;
+
+        public synchronized int intern(final T value) {
+            final var id = ids.get(value);
+            if (id != null) {
+                return id;
+            }
+            var values = this.values;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size] = value;
+            this.values = values;
+            ids.put(value, size);
+            return size++;
+        }
+
+        public synchronized int size() {
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public synchronized long estimateSize(final ToLongFunction<T> valueSize) {
+            var result = getArraySize(Integer.BYTES, values.length) + 48L * size;
+            for (var id = 0; id < size; id++) {
+                result += valueSize.applyAsLong((T) values[id]);
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T get(final int id) {
+            return (T) values[id];
+        }
+    }
+
+    /**
+     * Creates its entries once, so walking the components only allocates the iterator.
+     */
+    private static final class ComponentMap extends AbstractMap<String, Integer> {
+        private final List<Entry<String, Integer>> entries;
+        private final Set<Entry<String, Integer>> entrySet = new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<String, Integer>> iterator() {
+                return entries.iterator();
+            }
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+        };
+
+        private ComponentMap(final ChemicalPropertyStore store, final int id) {
+            final var count = store.getComponentCount(id);
+            final var entries = new ArrayList<Entry<String, Integer>>(count);
+            for (var index = 0; index < count; index++) {
+                entries.add(Map.entry(store.getComponentName(id, index), store.getComponentAmount(id, index)));
+            }
+            this.entries = List.copyOf(entries);
+        }
+
+        @Override
+        public @NotNull Set<Entry<String, Integer>> entrySet() {
+            return entrySet;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.util;
+
+import java.util.Locale;
+
+/**
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ColorUtils {
+    // @formatter:off
+    private ColorUtils() {}
+    // @formatter:on
+
+    /**
+     * Parses a hex color into a packed ARGB value. Accepts an optional
+     * # or 0x prefix and the RGB, ARGB, RRGGBB and AARRGGBB forms;
+     * colors without alpha are fully opaque.
+     *
+     * @throws IllegalArgumentException if the color is malformed.
+     */
+    public static int parseColor(final String color) {
+        var digits = color.trim();
+        if (digits.startsWith("#")) {
+            digits = digits.substring(1);
+        }
+        else if (digits.startsWith("0x") || digits.startsWith("0X")) {
+            digits = digits.substring(2);
+        }
+        final int value;
+        try {
+            value = Integer.parseUnsignedInt(digits, 16);
+        }
+        catch (NumberFormatException error) {
+            throw new IllegalArgumentException(String.format("'%s' is not a valid hex color", color));
+        }
+        return switch (digits.length()) {
+            case 3 -> 0xFF000000 | expand(value >> 8) << 16 | expand(value >> 4) << 8 | expand(value);
+            case 4 -> expand(value >> 12) << 24 | expand(value >> 8) << 16 | expand(value >> 4) << 8 | expand(value);
+            case 6 -> 0xFF000000 | value;
+            case 8 -> value;
+            default -> throw new IllegalArgumentException(String.format(
+                "'%s' is not a valid hex color, expected RGB, ARGB, RRGGBB or AARRGGBB",
+                color));
+        };
+    }
+
+    public static String toHexString(final int color) {
+        return String.format("%06X", color & 0xFFFFFF).toLowerCase(Locale.ROOT);
+    }
+
+    private static int expand(final int digit) {
+        final var value = digit & 0xF;
+        return value << 4 | value;
+    }
+}
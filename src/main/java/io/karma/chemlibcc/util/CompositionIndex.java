@@ -0,0 +1,191 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.util;
+
+import com.smashingmods.chemlib.common.items.CompoundItem;
+import com.smashingmods.chemlib.registry.ItemRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable reverse index from every chemical to the compounds it is a
+ * direct component of. Built once all compounds have been registered,
+ * it covers ChemLib's own compounds as well as the generated ones.
+ * <p>
+ * Molar masses are taken from the {@link FormulaEngine}, compounds without
+ * a known molar mass never match a mass query.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class CompositionIndex {
+    private static volatile CompositionIndex instance = new CompositionIndex(List.of(), Map.of());
+
+    private final CompoundItem[] compounds;
+    private final int[] componentCounts;
+    private final HashMap<String, Postings> postings = new HashMap<>();
+    private final double[] molarMasses;
+    private final int[] compoundsByMass;
+
+    private CompositionIndex(final List<CompoundItem> compounds, final Map<String, ChemicalFormula> formulas) {
+        this.compounds = compounds.toArray(CompoundItem[]::new);
+        componentCounts = new int[this.compounds.length];
+        final var builders = new HashMap<String, PostingsBuilder>();
+        final var masses = new double[this.compounds.length];
+        var massCount = 0;
+        for (var id = 0; id < this.compounds.length; id++) {
+            final var components = this.compounds[id].getComponents();
+            componentCounts[id] = components.size();
+            for (final var component : components.entrySet()) {
+                builders.computeIfAbsent(component.getKey(), key -> new PostingsBuilder()).add(id, component.getValue());
+            }
+            final var formula = formulas.get(this.compounds[id].getChemicalName());
+            final var mass = formula == null ? Double.NaN : formula.molarMass();
+            masses[id] = mass;
+            if (!Double.isNaN(mass)) {
+                massCount++;
+            }
+        }
+        for (final var builder : builders.entrySet()) {
+            postings.put(builder.getKey(), builder.getValue().build());
+        }
+
+        // Sort the ids of all compounds with a known mass by their mass, so ranges can be found using binary search
+        final var sortedIds = new Integer[massCount];
+        var index = 0;
+        for (var id = 0; id < masses.length; id++) {
+            if (!Double.isNaN(masses[id])) {
+                sortedIds[index++] = id;
+            }
+        }
+        Arrays.sort(sortedIds, (first, second) -> Double.compare(masses[first], masses[second]));
+        molarMasses = new double[massCount];
+        compoundsByMass = new int[massCount];
+        for (var i = 0; i < massCount; i++) {
+            compoundsByMass[i] = sortedIds[i];
+            molarMasses[i] = masses[sortedIds[i]];
+        }
+    }
+
+    public static CompositionIndex get() {
+        return instance;
+    }
+
+    public static CompositionIndex build(final Map<String, ChemicalFormula> formulas) {
+        final var index = new CompositionIndex(List.copyOf(ItemRegistry.getCompounds()), formulas);
+        instance = index;
+        return index;
+    }
+
+    public int size() {
+        return compounds.length;
+    }
+
+    /**
+     * @return every compound directly containing the given chemical, along with its amount per formula unit.
+     */
+    public List<Usage> getCompoundsContaining(final String chemicalName) {
+        final var entry = postings.get(chemicalName);
+        if (entry == null) {
+            return List.of();
+        }
+        final var usages = new ArrayList<Usage>(entry.compoundIds.length);
+        for (var i = 0; i < entry.compoundIds.length; i++) {
+            usages.add(new Usage(compounds[entry.compoundIds[i]], entry.counts[i]));
+        }
+        return usages;
+    }
+
+    /**
+     * @return every compound whose components are all contained in the given set of chemicals.
+     */
+    public List<CompoundItem> getCompoundsMadeOnlyFrom(final Collection<String> chemicalNames) {
+        // Only compounds containing at least one of the chemicals are visited, a compound
+        // qualifies once every one of its components has been seen, so every name may only count once
+        final var matches = new HashMap<Integer, Integer>();
+        final var result = new ArrayList<CompoundItem>();
+        for (final var chemicalName : new LinkedHashSet<>(chemicalNames)) {
+            final var entry = postings.get(chemicalName);
+            if (entry == null) {
+                continue;
+            }
+            for (final var id : entry.compoundIds) {
+                final int matchCount = matches.merge(id, 1, Integer::sum);
+                if (matchCount == componentCounts[id]) {
+                    result.add(compounds[id]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return every compound with a known molar mass between min and max (inclusive), ordered by mass.
+     */
+    public List<CompoundItem> getCompoundsByMolarMass(final double min, final double max) {
+        final var result = new ArrayList<CompoundItem>();
+        for (var i = lowerBound(min); i < molarMasses.length && molarMasses[i] <= max; i++) {
+            result.add(compounds[compoundsByMass[i]]);
+        }
+        return result;
+    }
+
+    private int lowerBound(final double mass) {
+        var low = 0;
+        var high = molarMasses.length;
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            if (molarMasses[middle] < mass) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public record Usage(CompoundItem compound, int count) {
+    }
+
+    private record Postings(int[] compoundIds, int[] counts) {
+    }
+
+    private static final class PostingsBuilder {
+        private int[] compoundIds = new int[4];
+        private int[] counts = new int[4];
+        private int size;
+
+        public void add(final int compoundId, final int count) {
+            if (size == compoundIds.length) {
+                compoundIds = Arrays.copyOf(compoundIds, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            compoundIds[size] = compoundId;
+            counts[size] = count;
+            size++;
+        }
+
+        public Postings build() {
+            return new Postings(Arrays.copyOf(compoundIds, size), Arrays.copyOf(counts, size));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.util;
+
+import com.smashingmods.chemlib.api.ChemicalItemType;
+import io.karma.chemlibcc.ChemLibCC;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the content we generate and the hits and misses of our caches,
+ * so heaps can be sized for content-heavy packs. The caches only live on
+ * the client, so their counters stay at zero on dedicated servers.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ContentStats {
+    private static final EnumMap<ChemicalItemType, LongAdder> ITEM_COUNTS = new EnumMap<>(ChemicalItemType.class);
+    private static final LongAdder METAL_BLOCK_COUNT = new LongAdder();
+    private static final LongAdder LAMP_BLOCK_COUNT = new LongAdder();
+    private static final LongAdder FLUID_COUNT = new LongAdder();
+    private static final LongAdder BUCKET_COUNT = new LongAdder();
+
+    static {
+        for (final var type : ChemicalItemType.values()) {
+            ITEM_COUNTS.put(type, new LongAdder());
+        }
+    }
+
+    // @formatter:off
+    private ContentStats() {}
+    // @formatter:on
+
+    public static void recordItem(final ChemicalItemType type) {
+        ITEM_COUNTS.get(type).increment();
+    }
+
+    public static void recordMetalBlock() {
+        METAL_BLOCK_COUNT.increment();
+    }
+
+    public static void recordLampBlock() {
+        LAMP_BLOCK_COUNT.increment();
+    }
+
+    public static void recordFluid() {
+        FLUID_COUNT.increment();
+        BUCKET_COUNT.increment();
+    }
+
+    public static Snapshot snapshot() {
+        final var itemCounts = new EnumMap<ChemicalItemType, Long>(ChemicalItemType.class);
+        for (final var entry : ITEM_COUNTS.entrySet()) {
+            itemCounts.put(entry.getKey(), entry.getValue().sum());
+        }
+        final var cacheStats = new EnumMap<Cache, CacheSnapshot>(Cache.class);
+        for (final var cache : Cache.values()) {
+            cacheStats.put(cache, new CacheSnapshot(cache.hits.sum(), cache.misses.sum()));
+        }
+        final var store = ChemicalPropertyStore.get();
+        return new Snapshot(store.getElementCount(),
+            store.getChemicalCount() - store.getElementCount(),
+            Collections.unmodifiableMap(itemCounts),
+            METAL_BLOCK_COUNT.sum(),
+            LAMP_BLOCK_COUNT.sum(),
+            FLUID_COUNT.sum(),
+            BUCKET_COUNT.sum(),
+            store.estimateRetainedSize(),
+            Collections.unmodifiableMap(cacheStats));
+    }
+
+    /**
+     * @param estimatedStoreSize the estimated retained heap of the {@link ChemicalPropertyStore} in bytes.
+     */
+    public record Snapshot(int elementCount,
+                           int compoundCount,
+                           Map<ChemicalItemType, Long> itemCounts,
+                           long metalBlockCount,
+                           long lampBlockCount,
+                           long fluidCount,
+                           long bucketCount,
+                           long estimatedStoreSize,
+                           Map<Cache, CacheSnapshot> caches) {
+    }
+
+    public record CacheSnapshot(long hits, long misses) {
+        public double getHitRate() {
+            final var total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    public enum Cache {
+        ITEM_MODELS,
+        ITEM_NAMES,
+        GROUP_NAMES,
+        TOOLTIPS;
+
+        private final String translationKey = String.format("command.%s.stats.cache.%s",
+            ChemLibCC.MODID,
+            name().toLowerCase(Locale.ROOT));
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        public void hit() {
+            hits.increment();
+        }
+
+        public void miss() {
+            misses.increment();
+        }
+
+        public String getTranslationKey() {
+            return translationKey;
+        }
+    }
+}
@@ -16,12 +16,16 @@
 package io.karma.chemlibcc.util;
 
 import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.config.ChemicalValidator;
 import net.minecraft.client.resources.language.I18n;
 import net.minecraft.network.chat.Component;
 import net.minecraft.util.StringRepresentable;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * @author Alexander Hinze
@@ -42,43 +46,99 @@ public enum ElementGroup implements StringRepresentable {
     UNKNOWN_PROPERTIES;
     // @formatter:on
 
-    public static ElementGroup byName(final String name) {
+    private static final HashMap<String, ElementGroup> BY_NAME = new HashMap<>();
+    private static volatile ElementGroup[] atomicNumberTable = new ElementGroup[119];
+
+    static {
         for (final var group : values()) {
-            if (!group.getSerializedName().equals(name)) {
-                continue;
-            }
-            return group;
+            BY_NAME.put(group.getSerializedName(), group);
         }
-        return UNKNOWN_PROPERTIES;
+        Arrays.fill(atomicNumberTable, UNKNOWN_PROPERTIES);
+        put(REACTIVE_NON_METALS, 1, 6, 7, 8, 15, 16, 34);
+        put(NOBLE_GASSES, 2, 10, 18, 36, 54, 86);
+        put(ALKALI_METALS, 3, 11, 19, 37, 55, 87);
+        put(ALKALINE_EARTH_METALS, 4, 12, 20, 38, 56, 88);
+        put(METALLOIDS, 5, 14, 32, 33, 51, 52);
+        put(HALOGENS, 9, 17, 35, 53, 85);
+        put(POST_TRANSITION_METALS, 13, 31, 49, 50, 81, 82, 83, 84);
+        // @formatter:off
+        put(TRANSITION_METALS, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 72, 73,
+            74, 75, 76, 77, 78, 79, 80, 104, 105, 106, 107, 108);
+        // @formatter:on
+        put(LANTHANIDES, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71);
+        put(ACTINIDES, 89, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99, 100, 101, 102, 103);
+    }
+
+    private final String serializedName = name().toLowerCase(Locale.ROOT);
+    private final ReloadableValue<String> localizedName = new ReloadableValue<>(ContentStats.Cache.GROUP_NAMES,
+        () -> I18n.get(String.format("group.%s.%s", ChemLibCC.MODID, serializedName)));
+    private final ReloadableValue<Component> localizedNameComponent = new ReloadableValue<>(
+        ContentStats.Cache.GROUP_NAMES,
+        () -> Component.literal(getLocalizedName()));
+
+    private static void put(final ElementGroup group, final int... atomicNumbers) {
+        for (final var atomicNumber : atomicNumbers) {
+            atomicNumberTable[atomicNumber] = group;
+        }
+    }
+
+    public static ElementGroup byName(final String name) {
+        return BY_NAME.getOrDefault(name, UNKNOWN_PROPERTIES);
     }
 
     public static ElementGroup byAtomicNumber(final int atomicNumber) {
-        return switch (atomicNumber) {
-            case 1, 6, 7, 8, 15, 16, 34 -> REACTIVE_NON_METALS;
-            case 2, 10, 18, 36, 54, 86 -> NOBLE_GASSES;
-            case 3, 11, 19, 37, 55, 87 -> ALKALI_METALS;
-            case 4, 12, 20, 38, 56, 88 -> ALKALINE_EARTH_METALS;
-            case 5, 14, 32, 33, 51, 52 -> METALLOIDS;
-            case 9, 17, 35, 53, 85 -> HALOGENS;
-            case 13, 31, 49, 50, 81, 82, 83, 84 -> POST_TRANSITION_METALS;
-            case 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 72, 73, 74, 75, 76, 77,
-                 78, 79, 80, 104, 105, 106, 107, 108 -> TRANSITION_METALS;
-            case 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71 -> LANTHANIDES;
-            case 89, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99, 100, 101, 102, 103 -> ACTINIDES;
-            default -> UNKNOWN_PROPERTIES;
-        };
+        final var groups = atomicNumberTable;
+        if (atomicNumber < 0 || atomicNumber >= groups.length) {
+            return UNKNOWN_PROPERTIES;
+        }
+        return groups[atomicNumber];
+    }
+
+    /**
+     * Assigns the groups of custom elements, so they can be looked up by
+     * their atomic number like any builtin element. The table is copied
+     * once per call, so all elements should be registered in one batch.
+     * Atomic numbers outside of 0 and {@link ChemicalValidator#MAX_ATOMIC_NUMBER} are ignored.
+     */
+    public static synchronized void registerAll(final Map<Integer, ElementGroup> groupsByAtomicNumber) {
+        final var oldGroups = atomicNumberTable;
+        var length = oldGroups.length;
+        for (final var atomicNumber : groupsByAtomicNumber.keySet()) {
+            if (atomicNumber <= ChemicalValidator.MAX_ATOMIC_NUMBER) {
+                length = Math.max(length, atomicNumber + 1);
+            }
+        }
+        final var groups = Arrays.copyOf(oldGroups, length);
+        Arrays.fill(groups, oldGroups.length, length, UNKNOWN_PROPERTIES);
+        for (final var entry : groupsByAtomicNumber.entrySet()) {
+            final var atomicNumber = entry.getKey();
+            final var group = entry.getValue();
+            if (atomicNumber < 0 || atomicNumber >= length) {
+                continue;
+            }
+            final var current = groups[atomicNumber];
+            if (current != UNKNOWN_PROPERTIES && current != group) {
+                ChemLibCC.LOGGER.warn("Atomic number {} already belongs to {}, ignoring {}",
+                    atomicNumber,
+                    current,
+                    group);
+                continue;
+            }
+            groups[atomicNumber] = group;
+        }
+        atomicNumberTable = groups;
     }
 
     @Override
     public @NotNull String getSerializedName() {
-        return name().toLowerCase(Locale.ROOT);
+        return serializedName;
     }
 
     public String getLocalizedName() {
-        return I18n.get(String.format("group.%s.%s", ChemLibCC.MODID, getSerializedName()));
+        return localizedName.get();
     }
 
     public Component getLocalizedNameComponent() {
-        return Component.literal(getLocalizedName());
+        return localizedNameComponent.get();
     }
 }
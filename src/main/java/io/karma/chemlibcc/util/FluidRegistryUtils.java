@@ -17,20 +17,14 @@ package io.karma.chemlibcc.util;
 
 import com.smashingmods.chemlib.common.blocks.ChemicalLiquidBlock;
 import com.smashingmods.chemlib.registry.FluidRegistry;
-import net.minecraft.client.Minecraft;
-import net.minecraft.core.BlockPos;
-import net.minecraft.resources.ResourceLocation;
+import io.karma.chemlibcc.item.GeneratedFluidType;
+import io.karma.chemlibcc.util.StartupProfiler.Phase;
 import net.minecraft.world.item.BucketItem;
 import net.minecraft.world.item.Item;
-import net.minecraft.world.level.BlockAndTintGetter;
-import net.minecraft.world.level.material.FluidState;
-import net.minecraftforge.client.extensions.common.IClientFluidTypeExtensions;
 import net.minecraftforge.fluids.FluidType;
 import net.minecraftforge.fluids.ForgeFlowingFluid;
 import net.minecraftforge.registries.RegistryObject;
 
-import java.util.function.Consumer;
-
 /**
  * @author Alexander Hinze
  * @since 09/10/2024
@@ -42,6 +36,7 @@ public final class FluidRegistryUtils {
 
     public static void registerFluid(String pName,
                                      FluidType.Properties pFluidProperties,
+                                     FluidTextures pTextures,
                                      int pColor,
                                      int slopeFindDistance,
                                      int pDecreasePerBlock) {
@@ -50,54 +45,22 @@ public final class FluidRegistryUtils {
         };
 
         RegistryObject<FluidType> fluidType = FluidRegistry.FLUID_TYPES.register(pName,
-            () -> new FluidType(pFluidProperties) {
-                @Override
-                public void initializeClient(Consumer<IClientFluidTypeExtensions> consumer) {
-                    consumer.accept(new IClientFluidTypeExtensions() {
-                        @Override
-                        public ResourceLocation getStillTexture() {
-                            return new ResourceLocation("block/water_still");
-                        }
-
-                        @Override
-                        public ResourceLocation getFlowingTexture() {
-                            return new ResourceLocation("block/water_flow");
-                        }
-
-                        @Override
-                        public ResourceLocation getOverlayTexture() {
-                            return new ResourceLocation("block/water_overlay");
-                        }
-
-                        @Override
-                        public ResourceLocation getRenderOverlayTexture(Minecraft mc) {
-                            return new ResourceLocation("minecraft", "textures/misc/underwater.png");
-                        }
-
-                        @Override
-                        public int getTintColor() {
-                            return pColor;
-                        }
-
-                        @Override
-                        public int getTintColor(FluidState state, BlockAndTintGetter getter, BlockPos pos) {
-                            return pColor;
-                        }
-                    });
-                }
-            });
+            StartupProfiler.timed(Phase.FLUID_REGISTRATION,
+                () -> new GeneratedFluidType(pFluidProperties, pTextures, pColor)));
 
         final var fluidSource = FluidRegistry.FLUIDS.register(String.format("%s_fluid", pName),
-            () -> new ForgeFlowingFluid.Source(ref.properties));
+            StartupProfiler.timed(Phase.FLUID_REGISTRATION, () -> new ForgeFlowingFluid.Source(ref.properties)));
         final var fluidFlowing = FluidRegistry.FLUIDS.register(String.format("%s_flowing", pName),
-            () -> new ForgeFlowingFluid.Flowing(ref.properties));
+            StartupProfiler.timed(Phase.FLUID_REGISTRATION, () -> new ForgeFlowingFluid.Flowing(ref.properties)));
         final var liquidBlock = FluidRegistry.LIQUID_BLOCKS.register(pName,
-            () -> new ChemicalLiquidBlock(fluidSource, pName));
+            StartupProfiler.timed(Phase.FLUID_REGISTRATION, () -> new ChemicalLiquidBlock(fluidSource, pName)));
         final var bucket = FluidRegistry.BUCKETS.register(String.format("%s_bucket", pName),
-            () -> new BucketItem(fluidSource, new Item.Properties().stacksTo(1)));
+            StartupProfiler.timed(Phase.FLUID_REGISTRATION,
+                () -> new BucketItem(fluidSource, new Item.Properties().stacksTo(1))));
 
         ref.properties = new ForgeFlowingFluid.Properties(fluidType, fluidSource, fluidFlowing).slopeFindDistance(
             slopeFindDistance).levelDecreasePerBlock(pDecreasePerBlock).block(liquidBlock).bucket(bucket);
+        ContentStats.recordFluid();
     }
 
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.util;
+
+import com.google.gson.JsonObject;
+import io.karma.chemlibcc.ChemLibCC;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The textures used to render a generated fluid. Locations are interned,
+ * so fluids sharing a texture also share the same instance.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public record FluidTextures(ResourceLocation still,
+                            ResourceLocation flowing,
+                            ResourceLocation overlay,
+                            ResourceLocation renderOverlay) {
+    public static final String STILL_KEY = "still_texture";
+    public static final String FLOWING_KEY = "flowing_texture";
+    public static final String OVERLAY_KEY = "overlay_texture";
+    public static final String RENDER_OVERLAY_KEY = "render_overlay_texture";
+
+    private static final ConcurrentHashMap<ResourceLocation, ResourceLocation> INTERNED = new ConcurrentHashMap<>();
+
+    public static final FluidTextures DEFAULT = new FluidTextures(intern(new ResourceLocation("block/water_still")),
+        intern(new ResourceLocation("block/water_flow")),
+        intern(new ResourceLocation("block/water_overlay")),
+        intern(new ResourceLocation("textures/misc/underwater.png")));
+
+    public static ResourceLocation intern(final ResourceLocation location) {
+        final var interned = INTERNED.putIfAbsent(location, location);
+        return interned != null ? interned : location;
+    }
+
+    public static FluidTextures fromProperties(final String name, final JsonObject properties) {
+        final var still = resolve(name, properties, STILL_KEY, DEFAULT.still);
+        final var flowing = resolve(name, properties, FLOWING_KEY, DEFAULT.flowing);
+        final var overlay = resolve(name, properties, OVERLAY_KEY, DEFAULT.overlay);
+        final var renderOverlay = resolve(name, properties, RENDER_OVERLAY_KEY, DEFAULT.renderOverlay);
+        if (still == DEFAULT.still && flowing == DEFAULT.flowing && overlay == DEFAULT.overlay
+            && renderOverlay == DEFAULT.renderOverlay) {
+            return DEFAULT;
+        }
+        return new FluidTextures(still, flowing, overlay, renderOverlay);
+    }
+
+    private static ResourceLocation resolve(final String name,
+                                            final JsonObject properties,
+                                            final String key,
+                                            final ResourceLocation fallback) {
+        final var element = properties.get(key);
+        if (element == null) {
+            return fallback;
+        }
+        if (!element.isJsonPrimitive() || !element.getAsJsonPrimitive().isString()) {
+            ChemLibCC.LOGGER.warn("Ignoring {} of fluid {}, expected a string", key, name);
+            return fallback;
+        }
+        final var location = ResourceLocation.tryParse(element.getAsString());
+        if (location == null) {
+            ChemLibCC.LOGGER.warn("Ignoring {} of fluid {}, '{}' is not a valid location",
+                key,
+                name,
+                element.getAsString());
+            return fallback;
+        }
+        return intern(location);
+    }
+}
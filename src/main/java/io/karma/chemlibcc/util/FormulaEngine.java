@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.util;
+
+import com.smashingmods.chemlib.common.items.ElementItem;
+import com.smashingmods.chemlib.registry.ItemRegistry;
+import io.karma.chemlibcc.ChemLibCC;
+import io.karma.chemlibcc.item.GeneratedCompoundItem;
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Computes the formula, molar mass and element breakdown of every
+ * registered compound once all chemicals have been registered. Nested
+ * compounds are resolved recursively; compounds which are part of a
+ * cycle or reference unknown chemicals are reported and left without
+ * a formula.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class FormulaEngine {
+    private static final String CARBON = "C";
+    private static final String HYDROGEN = "H";
+    private static volatile Map<String, ChemicalFormula> formulas = Map.of();
+
+    // @formatter:off
+    private FormulaEngine() {}
+    // @formatter:on
+
+    public static @Nullable ChemicalFormula get(final String compoundName) {
+        return formulas.get(compoundName);
+    }
+
+    public static Map<String, ChemicalFormula> getAll() {
+        return formulas;
+    }
+
+    /**
+     * Computes the formulas of all registered compounds and hands them to
+     * the generated compound items.
+     *
+     * @return the formulas of all compounds which could be resolved by their name.
+     */
+    public static Map<String, ChemicalFormula> computeAll() {
+        final var elementsByName = new HashMap<String, ElementItem>();
+        for (final var element : ItemRegistry.getElements()) {
+            elementsByName.put(element.getChemicalName(), element);
+        }
+        final var compounds = ItemRegistry.getCompounds();
+        final var componentsByName = new HashMap<String, Map<String, Integer>>(compounds.size() * 2);
+        for (final var compound : compounds) {
+            componentsByName.put(compound.getChemicalName(), compound.getComponents());
+        }
+        final var resolver = new Resolver(elementsByName.keySet(), componentsByName);
+        final var result = new HashMap<String, ChemicalFormula>(compounds.size() * 2);
+        for (final var compound : compounds) {
+            final var name = compound.getChemicalName();
+            final var elements = resolver.resolve(name);
+            if (elements == null) {
+                continue;
+            }
+            final var formula = createFormula(elementsByName, elements);
+            result.put(name, formula);
+            if (compound instanceof GeneratedCompoundItem generatedCompound) {
+                generatedCompound.setFormula(formula);
+            }
+        }
+        formulas = Collections.unmodifiableMap(result);
+        // Tooltips built before the formulas were known have to be rebuilt
+        ReloadableValue.invalidateAll();
+        return formulas;
+    }
+
+    private static ChemicalFormula createFormula(final Map<String, ElementItem> elementsByName,
+                                                 final Map<String, Integer> amounts) {
+        final var symbols = new HashMap<String, String>();
+        for (final var name : amounts.keySet()) {
+            symbols.put(name, elementsByName.get(name).getAbbreviation());
+        }
+        final var order = createHillOrder(symbols.values());
+        final var entries = new ArrayList<>(amounts.entrySet());
+        entries.sort(Comparator.comparing(entry -> symbols.get(entry.getKey()), order));
+
+        final var builder = new StringBuilder();
+        final var elements = new LinkedHashMap<String, Integer>();
+        var molarMass = 0.0;
+        for (final var entry : entries) {
+            final var element = elementsByName.get(entry.getKey());
+            final int amount = entry.getValue();
+            builder.append(element.getAbbreviation());
+            if (amount > 1) {
+                builder.append(amount);
+            }
+            elements.put(entry.getKey(), amount);
+            molarMass += AtomicWeights.get(element.getAtomicNumber()) * amount;
+        }
+        final var formula = builder.toString();
+        final var formulaComponent = Component.literal(formula).withStyle(ChatFormatting.DARK_AQUA);
+        final var molarMassComponent = Double.isNaN(molarMass) ? null : Component.translatable(String.format(
+            "tooltip.%s.molar_mass",
+            ChemLibCC.MODID), String.format(Locale.ROOT, "%.3f", molarMass)).withStyle(ChatFormatting.GRAY);
+        return new ChemicalFormula(formula,
+            molarMass,
+            Collections.unmodifiableMap(elements),
+            formulaComponent,
+            molarMassComponent);
+    }
+
+    /**
+     * Hill notation: carbon and hydrogen first if there is carbon, everything else alphabetically.
+     *
+     * @param symbols the symbols of all elements in the formula.
+     */
+    static Comparator<String> createHillOrder(final Collection<String> symbols) {
+        if (!symbols.contains(CARBON)) {
+            return Comparator.naturalOrder();
+        }
+        return Comparator.comparingInt(FormulaEngine::getHillRank).thenComparing(Comparator.naturalOrder());
+    }
+
+    private static int getHillRank(final String symbol) {
+        return switch (symbol) {
+            case CARBON -> 0;
+            case HYDROGEN -> 1;
+            default -> 2;
+        };
+    }
+
+    static final class Resolver {
+        private final Set<String> elements;
+        private final Map<String, Map<String, Integer>> compounds;
+        private final HashMap<String, Map<String, Integer>> resolved = new HashMap<>();
+        private final LinkedHashSet<String> visiting = new LinkedHashSet<>();
+
+        /**
+         * @param elements  the names of all elements.
+         * @param compounds the components of every compound by its name.
+         */
+        Resolver(final Set<String> elements, final Map<String, Map<String, Integer>> compounds) {
+            this.elements = elements;
+            this.compounds = compounds;
+        }
+
+        /**
+         * @return the amount of every element in one unit of the given chemical, or null if it can't be resolved.
+         */
+        public @Nullable Map<String, Integer> resolve(final String name) {
+            if (elements.contains(name)) {
+                return Map.of(name, 1);
+            }
+            if (resolved.containsKey(name)) {
+                return resolved.get(name);
+            }
+            final var components = compounds.get(name);
+            if (components == null) {
+                ChemLibCC.LOGGER.error("Could not resolve unknown chemical {}", name);
+                resolved.put(name, null);
+                return null;
+            }
+            if (!visiting.add(name)) {
+                ChemLibCC.LOGGER.error("Compound {} contains itself: {} -> {}",
+                    name,
+                    String.join(" -> ", visiting),
+                    name);
+                return null;
+            }
+            Map<String, Integer> result = new HashMap<>();
+            for (final var component : components.entrySet()) {
+                final var elements = resolve(component.getKey());
+                if (elements == null) {
+                    result = null;
+                    break;
+                }
+                final int amount = component.getValue();
+                for (final var element : elements.entrySet()) {
+                    result.merge(element.getKey(), element.getValue() * amount, Integer::sum);
+                }
+            }
+            visiting.remove(name);
+            resolved.put(name, result);
+            return result;
+        }
+    }
+}
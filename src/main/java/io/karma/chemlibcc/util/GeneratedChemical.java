@@ -22,5 +22,10 @@ import com.smashingmods.chemlib.api.Chemical;
  * @since 09/10/2024
  */
 public interface GeneratedChemical extends Chemical {
+    /**
+     * @return the id of this chemical in the {@link ChemicalPropertyStore}.
+     */
+    int getChemicalId();
+
     String getDisplayName();
 }
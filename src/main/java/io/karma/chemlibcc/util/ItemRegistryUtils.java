@@ -15,10 +15,13 @@
 
 package io.karma.chemlibcc.util;
 
+import com.smashingmods.chemlib.ChemLib;
 import com.smashingmods.chemlib.api.ChemicalItemType;
 import com.smashingmods.chemlib.common.blocks.ChemicalBlock;
 import com.smashingmods.chemlib.registry.ItemRegistry;
 import io.karma.chemlibcc.item.*;
+import io.karma.chemlibcc.util.StartupProfiler.Phase;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.Item.Properties;
 import net.minecraft.world.level.block.Block;
@@ -35,13 +38,19 @@ public final class ItemRegistryUtils {
 
     public static <B extends Block> void fromChemicalBlock(RegistryObject<B> registryObject, Properties properties) {
         ItemRegistry.REGISTRY_BLOCK_ITEMS.register(registryObject.getId().getPath(),
-            () -> new GeneratedChemicalBlockItem((ChemicalBlock) registryObject.get(), properties));
+            StartupProfiler.timed(Phase.BLOCK_ITEM_REGISTRATION,
+                () -> new GeneratedChemicalBlockItem((ChemicalBlock) registryObject.get(), properties)));
+        ModelRegistryUtils.registerItemModel(registryObject.getId(), ModelRegistryUtils.METAL_BLOCK_ITEM_MODEL);
+        ContentStats.recordMetalBlock();
     }
 
     public static <B extends Block> void lampFromChemicalBlock(RegistryObject<B> registryObject,
                                                                Properties properties) {
         ItemRegistry.REGISTRY_BLOCK_ITEMS.register(registryObject.getId().getPath(),
-            () -> new GeneratedLampBlockItem((ChemicalBlock) registryObject.get(), properties));
+            StartupProfiler.timed(Phase.BLOCK_ITEM_REGISTRATION,
+                () -> new GeneratedLampBlockItem((ChemicalBlock) registryObject.get(), properties)));
+        ModelRegistryUtils.registerItemModel(registryObject.getId(), ModelRegistryUtils.LAMP_BLOCK_ITEM_MODEL);
+        ContentStats.recordLampBlock();
     }
 
     public static void registerItemByType(RegistryObject<Item> registryObject, ChemicalItemType chemicalItemType) {
@@ -50,16 +59,27 @@ public final class ItemRegistryUtils {
             chemicalItemType.getSerializedName());
         switch (chemicalItemType) {
             case COMPOUND -> ItemRegistry.REGISTRY_COMPOUND_DUSTS.register(registryName,
-                () -> new GeneratedCompoundDustItem(registryObject.getId(), chemicalItemType, new Properties()));
+                StartupProfiler.timed(Phase.BLOCK_ITEM_REGISTRATION,
+                    () -> new GeneratedCompoundDustItem(registryObject.getId(), chemicalItemType, new Properties())));
             case DUST -> ItemRegistry.REGISTRY_METAL_DUSTS.register(registryName,
-                () -> new GeneratedDustItem(registryObject.getId(), chemicalItemType, new Properties()));
+                StartupProfiler.timed(Phase.BLOCK_ITEM_REGISTRATION,
+                    () -> new GeneratedDustItem(registryObject.getId(), chemicalItemType, new Properties())));
             case NUGGET -> ItemRegistry.REGISTRY_NUGGETS.register(registryName,
-                () -> new GeneratedNuggetItem(registryObject.getId(), chemicalItemType, new Properties()));
+                StartupProfiler.timed(Phase.BLOCK_ITEM_REGISTRATION,
+                    () -> new GeneratedNuggetItem(registryObject.getId(), chemicalItemType, new Properties())));
             case INGOT -> ItemRegistry.REGISTRY_INGOTS.register(registryName,
-                () -> new GeneratedIngotItem(registryObject.getId(), chemicalItemType, new Properties()));
+                StartupProfiler.timed(Phase.BLOCK_ITEM_REGISTRATION,
+                    () -> new GeneratedIngotItem(registryObject.getId(), chemicalItemType, new Properties())));
             case PLATE -> ItemRegistry.REGISTRY_PLATES.register(registryName,
-                () -> new GeneratedPlateItem(registryObject.getId(), chemicalItemType, new Properties()));
+                StartupProfiler.timed(Phase.BLOCK_ITEM_REGISTRATION,
+                    () -> new GeneratedPlateItem(registryObject.getId(), chemicalItemType, new Properties())));
         }
-
+        // @formatter:off
+        ModelRegistryUtils.registerItemModel(new ResourceLocation(ChemLib.MODID, registryName),
+            chemicalItemType == ChemicalItemType.COMPOUND
+                ? ModelRegistryUtils.COMPOUND_DUST_MODEL
+                : ModelRegistryUtils.BUILTIN_MODEL);
+        // @formatter:on
+        ContentStats.recordItem(chemicalItemType);
     }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.util;
+
+import com.smashingmods.chemlib.ChemLib;
+import io.karma.chemlibcc.ChemLibCC;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.ModelResourceLocation;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the model of every block and item generated by us,
+ * so the model baking hook doesn't have to scan the entire registries.
+ * Block state models are patched into the baked model map, since chunks
+ * are meshed from it. Item models are only resolved when an item is
+ * rendered for the first time after baking, see {@link #getItemModel(Item)}.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ModelRegistryUtils {
+    public static final String INVENTORY_VARIANT = "inventory";
+    public static final ResourceLocation COMPOUND_MODEL = new ResourceLocation(ChemLib.MODID,
+        "item/compound_solid_model");
+    public static final ResourceLocation COMPOUND_DUST_MODEL = new ResourceLocation(ChemLib.MODID,
+        "item/compound_dust_model");
+    public static final ResourceLocation COMPOUND_GAS_MODEL = new ResourceLocation(ChemLib.MODID,
+        "item/compound_gas_model");
+    public static final ResourceLocation COMPOUND_LIQUID_MODEL = new ResourceLocation(ChemLib.MODID,
+        "item/compound_liquid_model");
+    public static final ResourceLocation BUILTIN_MODEL = new ResourceLocation(ChemLibCC.MODID, "item/builtin");
+    public static final ResourceLocation METAL_BLOCK_MODEL = new ResourceLocation(ChemLibCC.MODID,
+        "block/metal_block");
+    public static final ResourceLocation METAL_BLOCK_ITEM_MODEL = new ResourceLocation(ChemLibCC.MODID,
+        "item/metal_block");
+    public static final ResourceLocation LAMP_BLOCK_MODEL = new ResourceLocation(ChemLibCC.MODID, "block/lamp");
+    public static final ResourceLocation LAMP_ON_BLOCK_MODEL = new ResourceLocation(ChemLibCC.MODID, "block/lamp_on");
+    public static final ResourceLocation LAMP_BLOCK_ITEM_MODEL = new ResourceLocation(ChemLibCC.MODID, "item/lamp");
+    public static final List<ResourceLocation> ADDITIONAL_MODELS = List.of(COMPOUND_MODEL,
+        COMPOUND_DUST_MODEL,
+        COMPOUND_GAS_MODEL,
+        COMPOUND_LIQUID_MODEL,
+        BUILTIN_MODEL,
+        METAL_BLOCK_MODEL,
+        METAL_BLOCK_ITEM_MODEL,
+        LAMP_BLOCK_MODEL,
+        LAMP_ON_BLOCK_MODEL,
+        LAMP_BLOCK_ITEM_MODEL);
+
+    private static final ArrayList<ModelPatch> PATCHES = new ArrayList<>();
+    private static final HashMap<ResourceLocation, ResourceLocation> ITEM_MODELS = new HashMap<>();
+    private static final ConcurrentHashMap<Item, Optional<BakedModel>> RESOLVED_ITEM_MODELS = new ConcurrentHashMap<>();
+    private static volatile Map<ResourceLocation, BakedModel> bakedModels = Map.of();
+
+    // @formatter:off
+    private ModelRegistryUtils() {}
+    // @formatter:on
+
+    public static void registerModel(final ResourceLocation name, final String variant, final ResourceLocation model) {
+        PATCHES.add(new ModelPatch(name, variant, model));
+    }
+
+    public static void registerItemModel(final ResourceLocation name, final ResourceLocation model) {
+        ITEM_MODELS.put(name, model);
+    }
+
+    public static int getItemModelCount() {
+        return ITEM_MODELS.size();
+    }
+
+    public static List<ModelPatch> getPatches() {
+        return Collections.unmodifiableList(PATCHES);
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    public static int applyPatches(final Map<ResourceLocation, BakedModel> models) {
+        for (final var patch : PATCHES) {
+            models.put(new ModelResourceLocation(patch.name, patch.variant), models.get(patch.model));
+        }
+        return PATCHES.size();
+    }
+
+    /**
+     * Makes the item models of a finished bake available, discarding all previously resolved ones.
+     */
+    @OnlyIn(Dist.CLIENT)
+    public static void setBakedModels(final Map<ResourceLocation, BakedModel> models) {
+        bakedModels = models;
+        RESOLVED_ITEM_MODELS.clear();
+    }
+
+    /**
+     * @return the memoized model of the given generated item, or null if it has none.
+     */
+    @OnlyIn(Dist.CLIENT)
+    public static @Nullable BakedModel getItemModel(final Item item) {
+        final var resolved = RESOLVED_ITEM_MODELS.get(item);
+        if (resolved != null) {
+            ContentStats.Cache.ITEM_MODELS.hit();
+            return resolved.orElse(null);
+        }
+        final var models = bakedModels;
+        if (models.isEmpty()) {
+            return null;
+        }
+        ContentStats.Cache.ITEM_MODELS.miss();
+        final var name = ForgeRegistries.ITEMS.getKey(item);
+        final var model = name != null ? ITEM_MODELS.get(name) : null;
+        final var bakedModel = model != null ? models.get(model) : null;
+        // Items without a model of ours are remembered as well, so they only pay for the registry lookup once
+        RESOLVED_ITEM_MODELS.put(item, Optional.ofNullable(bakedModel));
+        return bakedModel;
+    }
+
+    public record ModelPatch(ResourceLocation name, String variant, ResourceLocation model) {
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A lazily computed value which is discarded every time the client
+ * reloads its resources. Since switching the language triggers a
+ * resource reload, this is also used for caching localized values.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class ReloadableValue<T> {
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    private final ContentStats.Cache cache;
+    private final Supplier<T> factory;
+    private volatile Entry<T> entry;
+
+    /**
+     * @param cache the cache whose hits and misses this value counts towards.
+     */
+    public ReloadableValue(final ContentStats.Cache cache, final Supplier<T> factory) {
+        this.cache = cache;
+        this.factory = factory;
+    }
+
+    public static void invalidateAll() {
+        GENERATION.incrementAndGet();
+    }
+
+    static int getGeneration() {
+        return GENERATION.get();
+    }
+
+    public T get() {
+        final var generation = GENERATION.get();
+        final var entry = this.entry;
+        if (entry != null && entry.generation == generation) {
+            cache.hit();
+            return entry.value;
+        }
+        cache.miss();
+        final var value = factory.get();
+        this.entry = new Entry<>(generation, value);
+        return value;
+    }
+
+    private record Entry<T>(int generation, T value) {
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.chemlibcc.util;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import io.karma.chemlibcc.ChemLibCC;
+import net.minecraftforge.fml.loading.FMLPaths;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates the time spent in each phase of loading our content.
+ * The registration phases cover queueing the registry entries, while
+ * constructing the queued objects is accounted to the fluid and
+ * block/item phases once the registries fire. Phases recorded on
+ * multiple threads add up their time, so a total may exceed wall time.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class StartupProfiler {
+    private static final boolean WRITE_REPORT = Boolean.getBoolean("chemlibcc.startupReport");
+    private static final String REPORT_FILE = "chemlibcc-startup.json";
+    private static volatile boolean isReported;
+
+    // @formatter:off
+    private StartupProfiler() {}
+    // @formatter:on
+
+    public static void record(final Phase phase, final long startTime) {
+        final var time = System.nanoTime() - startTime;
+        phase.count.increment();
+        phase.totalTime.add(time);
+        phase.maxTime.accumulateAndGet(time, Math::max);
+        // Model baking and JEI run after loading has completed on the client
+        if (isReported && WRITE_REPORT) {
+            writeReport();
+        }
+    }
+
+    /**
+     * Wraps a registry supplier, so constructing the registered
+     * object is accounted to the given phase.
+     */
+    public static <T> Supplier<T> timed(final Phase phase, final Supplier<T> supplier) {
+        return () -> {
+            final var startTime = System.nanoTime();
+            try {
+                return supplier.get();
+            }
+            finally {
+                record(phase, startTime);
+            }
+        };
+    }
+
+    public static void report() {
+        final var builder = new StringBuilder("Startup profile:\n");
+        builder.append(String.format("  %-26s %8s %10s %10s", "Phase", "Calls", "Total ms", "Max ms"));
+        for (final var phase : Phase.values()) {
+            builder.append(String.format("\n  %-26s %8d %10.2f %10.2f",
+                phase.displayName,
+                phase.count.sum(),
+                toMillis(phase.totalTime.sum()),
+                toMillis(phase.maxTime.get())));
+        }
+        ChemLibCC.LOGGER.info(builder.toString());
+        isReported = true;
+        if (WRITE_REPORT) {
+            writeReport();
+        }
+    }
+
+    private static synchronized void writeReport() {
+        final var phases = new JsonObject();
+        for (final var phase : Phase.values()) {
+            final var entry = new JsonObject();
+            entry.addProperty("calls", phase.count.sum());
+            entry.addProperty("total_ms", toMillis(phase.totalTime.sum()));
+            entry.addProperty("max_ms", toMillis(phase.maxTime.get()));
+            phases.add(phase.serializedName, entry);
+        }
+        final var report = new JsonObject();
+        report.addProperty("timestamp", Instant.now().toString());
+        report.add("phases", phases);
+
+        final var path = FMLPaths.GAMEDIR.get().resolve("logs").resolve(REPORT_FILE);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.writeString(path,
+                new GsonBuilder().setPrettyPrinting().create().toJson(report),
+                StandardCharsets.UTF_8);
+        }
+        catch (IOException error) {
+            ChemLibCC.LOGGER.warn("Could not write startup report {}: {}", path, error);
+        }
+    }
+
+    private static double toMillis(final long time) {
+        return time / 1_000_000.0;
+    }
+
+    public enum Phase {
+        // @formatter:off
+        FILE_READ               ("file_read", "File read"),
+        CACHE_READ              ("cache_read", "Cache read"),
+        JSON_DECODE             ("json_decode", "JSON decode"),
+        FINGERPRINT             ("fingerprint", "Content fingerprint"),
+        ELEMENT_REGISTRATION    ("element_registration", "Element registration"),
+        COMPOUND_REGISTRATION   ("compound_registration", "Compound registration"),
+        FLUID_REGISTRATION      ("fluid_registration", "Fluid registration"),
+        BLOCK_ITEM_REGISTRATION ("block_item_registration", "Block/item registration"),
+        MODEL_REGISTRATION      ("model_registration", "Model registration"),
+        MODEL_PATCH             ("model_patch", "Model baking patch"),
+        JEI_REGISTRATION        ("jei_registration", "JEI registration");
+        // @formatter:on
+
+        private final String serializedName;
+        private final String displayName;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final AtomicLong maxTime = new AtomicLong();
+
+        Phase(final String serializedName, final String displayName) {
+            this.serializedName = serializedName;
+            this.displayName = displayName;
+        }
+    }
+}
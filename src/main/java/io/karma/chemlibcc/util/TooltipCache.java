@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.util;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.TooltipFlag;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The tooltip lines of an item, built once for every combination of
+ * tooltip flags and rebuilt after every resource reload, which includes
+ * switching the language. Every call appends copies of the lines, since
+ * tooltip event listeners may restyle them in place. Since the lines
+ * are shared by all stacks of the item, they may not depend on the stack
+ * or the level; starting the game with
+ * {@code -Dchemlibcc.dynamicTooltips=true} builds them on every call instead.
+ *
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public final class TooltipCache {
+    private static final boolean ENABLED = !Boolean.getBoolean("chemlibcc.dynamicTooltips");
+
+    private final Factory factory;
+    private final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(4);
+
+    public TooltipCache(final Factory factory) {
+        this.factory = factory;
+    }
+
+    public void appendTo(final ItemStack stack,
+                         final @Nullable Level world,
+                         final List<Component> tooltip,
+                         final TooltipFlag flag) {
+        if (!ENABLED) {
+            factory.create(stack, world, tooltip, flag);
+            return;
+        }
+        final var index = (flag.isAdvanced() ? 1 : 0) | (flag.isCreative() ? 2 : 0);
+        final var generation = ReloadableValue.getGeneration();
+        var entry = entries.get(index);
+        if (entry == null || entry.generation != generation) {
+            ContentStats.Cache.TOOLTIPS.miss();
+            final var lines = new ArrayList<Component>();
+            factory.create(stack, world, lines, flag);
+            entry = new Entry(generation, List.copyOf(lines));
+            entries.set(index, entry);
+        }
+        else {
+            ContentStats.Cache.TOOLTIPS.hit();
+        }
+        for (final var line : entry.lines) {
+            tooltip.add(line.copy());
+        }
+    }
+
+    @FunctionalInterface
+    public interface Factory {
+        void create(final ItemStack stack,
+                    final @Nullable Level world,
+                    final List<Component> tooltip,
+                    final TooltipFlag flag);
+    }
+
+    private record Entry(int generation, List<Component> lines) {
+    }
+}
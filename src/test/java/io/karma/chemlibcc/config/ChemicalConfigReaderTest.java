@@ -0,0 +1,141 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.config;
+
+import com.smashingmods.chemlib.api.MatterState;
+import com.smashingmods.chemlib.api.MetalType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public class ChemicalConfigReaderTest {
+    private static final String ELEMENT = """
+        {"name":"foo","display_name":"Foo","atomic_number":120,"abbreviation":"Fo","group_name":"metalloids",
+        "group":14,"period":8,"matter_state":"solid","metal_type":"metalloid","color":"ff00ff"}""";
+
+    @Test
+    public void testReadElement() throws IOException {
+        final var result = readElements(ELEMENT);
+        assertFalse(result.hasErrors());
+        assertEquals(1, result.definitions().size());
+        final var element = result.definitions().get(0);
+        assertEquals("foo", element.name());
+        assertEquals("Foo", element.displayName());
+        assertEquals(120, element.atomicNumber());
+        assertEquals("Fo", element.abbreviation());
+        assertEquals(14, element.group());
+        assertEquals(8, element.period());
+        assertEquals(MatterState.SOLID, element.matterState());
+        assertEquals(MetalType.METALLOID, element.metalType());
+        assertEquals(0xFFFF00FF, element.color());
+        assertFalse(element.artificial());
+        assertEquals(List.of(), element.effects());
+    }
+
+    @Test
+    public void testMissingField() throws IOException {
+        final var result = readElements("""
+            {"name":"bar","display_name":"Bar","abbreviation":"Ba","group_name":"metalloids","group":14,"period":8,
+            "matter_state":"solid","metal_type":"metalloid","color":"ff00ff"}""", ELEMENT);
+        assertEquals(List.of("Missing required field 'atomic_number'"), messages(result));
+        assertEquals(1, result.invalidEntries());
+        assertEquals(List.of("foo"), result.definitions().stream().map(ElementDefinition::name).toList());
+    }
+
+    @Test
+    public void testInvalidValues() throws IOException {
+        final var result = readElements(ELEMENT.replace("\"atomic_number\":120", "\"atomic_number\":\"abc\"")
+            .replace("\"solid\"", "\"plasma\"")
+            .replace("\"ff00ff\"", "\"ff00f\""));
+        // Fields with invalid values aren't reported as missing on top of that
+        final var messages = messages(result);
+        assertEquals(3, messages.size());
+        assertEquals("Expected 'atomic_number' to be an integer", messages.get(0));
+        assertTrue(messages.get(1).startsWith("Unknown value 'plasma' for 'matter_state'"));
+        assertEquals("'ff00f' is not a valid hex color, expected RGB, ARGB, RRGGBB or AARRGGBB", messages.get(2));
+        assertEquals(1, result.invalidEntries());
+        assertEquals(List.of(), result.definitions());
+    }
+
+    @Test
+    public void testTypeMismatch() throws IOException {
+        final var result = readElements(ELEMENT.replace("\"group\":14", "\"group\":[14]"), ELEMENT);
+        assertEquals(List.of("Expected 'group' to be an integer but found BEGIN_ARRAY"), messages(result));
+        assertEquals(1, result.definitions().size());
+    }
+
+    @Test
+    public void testMissingArray() throws IOException {
+        final var result = ChemicalConfigReader.readCompounds(new StringReader("{\"elements\":[]}"));
+        assertEquals(List.of("Missing required array 'compounds'"), messages(result));
+        assertEquals(List.of(), result.definitions());
+    }
+
+    @Test
+    public void testReadCompound() throws IOException {
+        final var result = ChemicalConfigReader.readCompounds(new StringReader("""
+            {"compounds":[{"name":"a","display_name":"A","matter_state":"solid","color":"fff",
+            "components":[{"name":"b"},{"name":"foo","count":2}]}]}"""));
+        assertFalse(result.hasErrors());
+        final var compound = result.definitions().get(0);
+        assertEquals(Map.of("b", 1, "foo", 2), compound.components());
+        assertEquals(List.of("b", "foo"), List.copyOf(compound.components().keySet()));
+        assertEquals("", compound.description());
+        assertEquals(0xFFFFFFFF, compound.color());
+    }
+
+    @Test
+    public void testFluidRequiresProperties() throws IOException {
+        final var result = ChemicalConfigReader.readCompounds(new StringReader("""
+            {"compounds":[{"name":"a","display_name":"A","matter_state":"liquid","color":"fff",
+            "components":[{"name":"b"}]},{"name":"c","display_name":"C","matter_state":"liquid","color":"fff",
+            "components":[{"name":"b"}],"fluid_properties":{"slope_find_distance":2}}]}"""));
+        assertEquals(List.of("Missing required field 'fluid_properties'"), messages(result));
+        final var fluid = result.definitions().get(0).fluid();
+        assertNotNull(fluid);
+        assertEquals(2, fluid.slopeFindDistance());
+        assertEquals(1, fluid.decreasePerBlock());
+    }
+
+    @Test
+    public void testErrorsHaveLocations() throws IOException {
+        final var result = readElements("{\"name\":\"bar\"}");
+        assertTrue(result.hasErrors());
+        for (final var error : result.errors()) {
+            assertFalse(error.location().isEmpty());
+        }
+    }
+
+    private static DecodeResult<ElementDefinition> readElements(final String... elements) throws IOException {
+        return ChemicalConfigReader.readElements(new StringReader(String.format("{\"elements\":[%s]}",
+            String.join(",", elements))));
+    }
+
+    private static List<String> messages(final DecodeResult<?> result) {
+        return result.errors().stream().map(ConfigError::message).toList();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public class ChemicalDefinitionCacheTest {
+    private static final String ELEMENTS = """
+        {"elements":[{"name":"foo","display_name":"Foo","atomic_number":120,"abbreviation":"Fo",
+        "group_name":"metalloids","group":14,"period":8,"matter_state":"liquid","metal_type":"metalloid",
+        "color":"ff00ff","fluid_properties":{"slope_find_distance":2,"luminosity":4},
+        "effect":[{"location":"minecraft:poison","duration":100,"amplifier":1}]}]}""";
+
+    @TempDir
+    Path directory;
+    private Path source;
+    private Path cache;
+    private int decodeCount;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        source = directory.resolve("elements.json");
+        cache = directory.resolve("cache").resolve("elements.bin");
+        Files.writeString(source, ELEMENTS, StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(source, FileTime.fromMillis(1_000_000L));
+    }
+
+    @Test
+    public void testFirstLoadWritesCache() throws IOException {
+        final var result = load();
+        assertFalse(result.hasErrors());
+        assertEquals(1, decodeCount);
+        assertTrue(Files.exists(cache));
+    }
+
+    @Test
+    public void testUnchangedUsesCache() throws IOException {
+        final var expected = load().definitions();
+        final var result = load();
+        assertEquals(1, decodeCount);
+        assertEquals(expected, result.definitions());
+        assertEquals(List.of(), result.errors());
+    }
+
+    @Test
+    public void testTouchedUsesCache() throws IOException {
+        final var expected = load().definitions();
+        final var cacheBytes = Files.readAllBytes(cache);
+        Files.setLastModifiedTime(source, FileTime.fromMillis(2_000_000L));
+        assertEquals(expected, load().definitions());
+        assertEquals(1, decodeCount);
+        // The header is refreshed with the new modification time, so the source isn't hashed again
+        final var refreshedBytes = Files.readAllBytes(cache);
+        assertEquals(cacheBytes.length, refreshedBytes.length);
+        assertFalse(Arrays.equals(cacheBytes, refreshedBytes));
+        load();
+        assertArrayEquals(refreshedBytes, Files.readAllBytes(cache));
+        assertEquals(1, decodeCount);
+    }
+
+    @Test
+    public void testChangedDecodesAgain() throws IOException {
+        load();
+        Files.writeString(source, ELEMENTS.replace("\"Foo\"", "\"Bar\""), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(source, FileTime.fromMillis(2_000_000L));
+        final var result = load();
+        assertEquals(2, decodeCount);
+        assertEquals("Bar", result.definitions().get(0).displayName());
+        assertEquals("Bar", load().definitions().get(0).displayName());
+        assertEquals(2, decodeCount);
+    }
+
+    @Test
+    public void testCorruptCacheIsRebuilt() throws IOException {
+        final var expected = load().definitions();
+        final var bytes = Files.readAllBytes(cache);
+        Files.write(cache, Arrays.copyOf(bytes, bytes.length - 8));
+        assertEquals(expected, load().definitions());
+        assertEquals(2, decodeCount);
+        assertArrayEquals(bytes, Files.readAllBytes(cache));
+    }
+
+    @Test
+    public void testInvalidFileDeletesCache() throws IOException {
+        load();
+        Files.writeString(source, ELEMENTS.replace("\"atomic_number\":120,", ""), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(source, FileTime.fromMillis(2_000_000L));
+        final var result = load();
+        assertTrue(result.hasErrors());
+        assertEquals(1, result.invalidEntries());
+        assertFalse(Files.exists(cache));
+        // Errors are reported again on the next load instead of being hidden by a cache
+        assertTrue(load().hasErrors());
+        assertEquals(3, decodeCount);
+    }
+
+    private DecodeResult<ElementDefinition> load() throws IOException {
+        return ChemicalDefinitionCache.load(source, cache, this::decode, DefinitionCodecs.ELEMENT);
+    }
+
+    private DecodeResult<ElementDefinition> decode(final Reader reader) throws IOException {
+        decodeCount++;
+        return ChemicalConfigReader.readElements(reader);
+    }
+}
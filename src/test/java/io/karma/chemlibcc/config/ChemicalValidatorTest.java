@@ -0,0 +1,229 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public class ChemicalValidatorTest {
+    @Test
+    public void testValidDefinitions() throws IOException {
+        final var definitions = definitions(List.of(element("foo", 120)), List.of(compound("a", "foo")));
+        final var report = ChemicalValidator.validate(definitions, new ChemicalValidator.References(), Map.of());
+        assertEquals(List.of(), report.errors());
+        assertEquals(List.of(), report.warnings());
+        assertEquals(Set.of(), report.invalidChemicals());
+    }
+
+    @Test
+    public void testDuplicateAtomicNumber() throws IOException {
+        final var definitions = definitions(List.of(element("foo", 120), element("bar", 120)), List.of());
+        final var report = ChemicalValidator.validate(definitions, new ChemicalValidator.References(), Map.of());
+        assertEquals(List.of("element 'bar': Atomic number 120 is already used by 'foo'"), messages(report.errors()));
+        assertEquals(Set.of("bar"), report.invalidChemicals());
+    }
+
+    @Test
+    public void testAtomicNumberUsedByReference() throws IOException {
+        final var references = new ChemicalValidator.References();
+        references.add("hydrogen", 1);
+        final var definitions = definitions(List.of(element("foo", 1)), List.of());
+        final var report = ChemicalValidator.validate(definitions, references, Map.of());
+        assertEquals(List.of("element 'foo': Atomic number 1 is already used by ChemLib's 'hydrogen'"),
+            messages(report.errors()));
+        assertEquals(Set.of("foo"), report.invalidChemicals());
+    }
+
+    @Test
+    public void testNonPositiveAtomicNumber() throws IOException {
+        final var definitions = definitions(List.of(element("foo", 0)), List.of());
+        final var report = ChemicalValidator.validate(definitions, new ChemicalValidator.References(), Map.of());
+        assertEquals(List.of("element 'foo': Atomic number 0 has to be positive"), messages(report.errors()));
+    }
+
+    @Test
+    public void testAtomicNumberTooLarge() throws IOException {
+        final var definitions = definitions(List.of(element("foo", ChemicalValidator.MAX_ATOMIC_NUMBER),
+            element("bar", ChemicalValidator.MAX_ATOMIC_NUMBER + 1)), List.of());
+        final var report = ChemicalValidator.validate(definitions, new ChemicalValidator.References(), Map.of());
+        assertEquals(List.of("element 'bar': Atomic number 1025 may be at most 1024"), messages(report.errors()));
+    }
+
+    @Test
+    public void testNameUsedByReference() throws IOException {
+        final var references = new ChemicalValidator.References();
+        references.add("water");
+        final var definitions = definitions(List.of(), List.of(compound("water", "water")));
+        final var report = ChemicalValidator.validate(definitions, references, Map.of());
+        assertEquals(List.of("compound 'water': The name 'water' is already used by ChemLib"),
+            messages(report.errors()));
+        assertEquals(Set.of("water"), report.invalidChemicals());
+    }
+
+    @Test
+    public void testNameUsedByOtherKind() throws IOException {
+        final var definitions = definitions(List.of(element("foo", 120)), List.of(compound("foo", "foo")));
+        final var report = ChemicalValidator.validate(definitions, new ChemicalValidator.References(), Map.of());
+        assertEquals(List.of("compound 'foo': The name 'foo' is already used by another element"),
+            messages(report.errors()));
+    }
+
+    @Test
+    public void testUnknownComponentWithoutReferences() throws IOException {
+        final var definitions = definitions(List.of(), List.of(compound("a", "hydrogen")));
+        final var report = ChemicalValidator.validate(definitions, new ChemicalValidator.References(), Map.of());
+        // Without references the component may still be one of ChemLib's chemicals
+        assertEquals(List.of(), report.errors());
+        assertEquals(List.of("compound 'a': Unknown component 'hydrogen'"), messages(report.warnings()));
+        assertEquals(Set.of(), report.invalidChemicals());
+    }
+
+    @Test
+    public void testUnknownComponentWithReferences() throws IOException {
+        final var references = new ChemicalValidator.References();
+        references.add("oxygen", 8);
+        final var definitions = definitions(List.of(), List.of(compound("a", "hydrogen", "oxygen")));
+        final var report = ChemicalValidator.validate(definitions, references, Map.of());
+        assertEquals(List.of("compound 'a': Unknown component 'hydrogen'"), messages(report.errors()));
+        assertEquals(List.of(), report.warnings());
+        assertEquals(Set.of("a"), report.invalidChemicals());
+    }
+
+    @Test
+    public void testCycle() throws IOException {
+        final var definitions = definitions(List.of(element("foo", 120)),
+            List.of(compound("a", "b"), compound("b", "a", "foo")));
+        final var report = ChemicalValidator.validate(definitions, new ChemicalValidator.References(), Map.of());
+        // Compounds are checked in the order they are defined in, so the errors are stable
+        assertEquals(List.of("compound 'a': Compound contains itself: a -> b -> a",
+            "compound 'b': Component 'a' is invalid"), messages(report.errors()));
+        assertEquals(Set.of("a", "b"), report.invalidChemicals());
+    }
+
+    @Test
+    public void testPropagateInvalid() throws IOException {
+        final var references = new ChemicalValidator.References();
+        references.add("oxygen", 8);
+        final var definitions = definitions(List.of(),
+            List.of(compound("a", "unknown"), compound("b", "a"), compound("c", "b", "oxygen"), compound("d", "oxygen")));
+        final var report = ChemicalValidator.validate(definitions, references, Map.of());
+        assertEquals(Set.of("a", "b", "c"), report.invalidChemicals());
+        final var errors = messages(report.errors());
+        assertTrue(errors.contains("compound 'b': Component 'a' is invalid"));
+        assertTrue(errors.contains("compound 'c': Component 'b' is invalid"));
+        assertEquals(3, errors.size());
+    }
+
+    @Test
+    public void testFluidOutOfRange() throws IOException {
+        final var compound = """
+            {"name":"a","display_name":"A","matter_state":"liquid","color":"ffffff","components":[{"name":"foo"}],
+            "fluid_properties":{"slope_find_distance":12,"luminosity":20}}""";
+        final var definitions = definitions(List.of(element("foo", 120)), List.of(compound));
+        final var report = ChemicalValidator.validate(definitions, new ChemicalValidator.References(), Map.of());
+        assertEquals(List.of("compound 'a': Expected 'slope_find_distance' to be between 1 and 8 but found 12",
+            "compound 'a': Expected 'luminosity' to be between 0 and 15 but found 20"), messages(report.errors()));
+    }
+
+    @Test
+    public void testLocatesSources() throws IOException {
+        final var definitions = definitions(List.of(element("foo", 0)), List.of());
+        final var references = new ChemicalValidator.References();
+        final var report = ChemicalValidator.validate(definitions, references, Map.of("foo", "extra.json"));
+        assertEquals(List.of("extra.json element 'foo': Atomic number 0 has to be positive"),
+            messages(report.errors()));
+    }
+
+    @Test
+    public void testRemoveInvalid() throws IOException {
+        final var definitions = definitions(List.of(element("foo", 120), element("bar", 120)),
+            List.of(compound("a", "foo"), compound("b", "bar")));
+        final var report = ChemicalValidator.validate(definitions, new ChemicalValidator.References(), Map.of());
+        final var result = ChemicalValidator.removeInvalid(definitions, report);
+        assertEquals(List.of("foo"), result.elements().stream().map(ElementDefinition::name).toList());
+        assertEquals(List.of("a"), result.compounds().stream().map(CompoundDefinition::name).toList());
+    }
+
+    @Test
+    public void testReadReferences() {
+        final var references = new ChemicalValidator.References();
+        assertTrue(references.isEmpty());
+        references.read(new StringReader("""
+            {"elements":[{"name":"hydrogen","atomic_number":1}],"compounds":[{"name":"water"}]}"""));
+        assertFalse(references.isEmpty());
+        assertTrue(references.contains("hydrogen"));
+        assertTrue(references.contains("water"));
+        assertFalse(references.contains("oxygen"));
+    }
+
+    @Test
+    public void testAtomicNumberUsedByReadReference() throws IOException {
+        final var references = new ChemicalValidator.References();
+        references.read(new StringReader("{\"elements\":[{\"name\":\"hydrogen\",\"atomic_number\":1}]}"));
+        final var definitions = definitions(List.of(element("foo", 1)), List.of());
+        final var report = ChemicalValidator.validate(definitions, references, Map.of());
+        assertEquals(Set.of("foo"), report.invalidChemicals());
+    }
+
+    private static String element(final String name, final int atomicNumber) {
+        return String.format("""
+            {"name":"%s","display_name":"%s","atomic_number":%d,"abbreviation":"Fo","group_name":"metalloids",
+            "group":14,"period":8,"matter_state":"solid","metal_type":"metalloid","color":"ff00ff"}""",
+            name,
+            name,
+            atomicNumber);
+    }
+
+    private static String compound(final String name, final String... components) {
+        final var componentList = String.join(",",
+            Arrays.stream(components).map(component -> String.format("{\"name\":\"%s\"}", component)).toList());
+        return String.format("""
+            {"name":"%s","display_name":"%s","matter_state":"solid","color":"ffffff","components":[%s]}""",
+            name,
+            name,
+            componentList);
+    }
+
+    private static ChemicalDefinitions definitions(final List<String> elements,
+                                                   final List<String> compounds) throws IOException {
+        final var elementResult = ChemicalConfigReader.readElements(new StringReader(String.format(
+            "{\"elements\":[%s]}",
+            String.join(",", elements))));
+        final var compoundResult = ChemicalConfigReader.readCompounds(new StringReader(String.format(
+            "{\"compounds\":[%s]}",
+            String.join(",", compounds))));
+        assertEquals(List.of(), elementResult.errors());
+        assertEquals(List.of(), compoundResult.errors());
+        return new ChemicalDefinitions(elementResult.definitions(), compoundResult.definitions());
+    }
+
+    private static List<String> messages(final List<ConfigError> errors) {
+        return errors.stream().map(ConfigError::toString).toList();
+    }
+}
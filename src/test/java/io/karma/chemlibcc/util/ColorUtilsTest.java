@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public class ColorUtilsTest {
+    @Test
+    public void testParseShortForms() {
+        assertEquals(0xFFFF00FF, ColorUtils.parseColor("f0f"));
+        assertEquals(0x88FF00FF, ColorUtils.parseColor("8f0f"));
+    }
+
+    @Test
+    public void testParseLongForms() {
+        assertEquals(0xFF12AB34, ColorUtils.parseColor("12ab34"));
+        assertEquals(0x8012AB34, ColorUtils.parseColor("8012AB34"));
+    }
+
+    @Test
+    public void testParsePrefixes() {
+        assertEquals(0xFF12AB34, ColorUtils.parseColor("#12ab34"));
+        assertEquals(0xFF12AB34, ColorUtils.parseColor("0x12ab34"));
+        assertEquals(0xFF12AB34, ColorUtils.parseColor("0X12ab34"));
+        assertEquals(0xFF12AB34, ColorUtils.parseColor(" #12ab34 "));
+    }
+
+    @Test
+    public void testParseInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> ColorUtils.parseColor(""));
+        assertThrows(IllegalArgumentException.class, () -> ColorUtils.parseColor("#"));
+        assertThrows(IllegalArgumentException.class, () -> ColorUtils.parseColor("12ab3"));
+        assertThrows(IllegalArgumentException.class, () -> ColorUtils.parseColor("12ab34567"));
+        assertThrows(IllegalArgumentException.class, () -> ColorUtils.parseColor("ghijkl"));
+        assertThrows(IllegalArgumentException.class, () -> ColorUtils.parseColor("-12ab3"));
+    }
+
+    @Test
+    public void testToHexString() {
+        assertEquals("12ab34", ColorUtils.toHexString(0x8012AB34));
+        assertEquals("0000ff", ColorUtils.toHexString(0xFF));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.chemlibcc.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author Alexander Hinze
+ * @since 18/10/2026
+ */
+public class FormulaEngineTest {
+    private static final Set<String> ELEMENTS = Set.of("hydrogen", "carbon", "oxygen", "sodium");
+
+    @Test
+    public void testResolveElement() {
+        final var resolver = new FormulaEngine.Resolver(ELEMENTS, Map.of());
+        assertEquals(Map.of("oxygen", 1), resolver.resolve("oxygen"));
+    }
+
+    @Test
+    public void testResolveNested() {
+        final var resolver = new FormulaEngine.Resolver(ELEMENTS,
+            Map.of("water", Map.of("hydrogen", 2, "oxygen", 1), "hydrate", Map.of("sodium", 1, "water", 3)));
+        assertEquals(Map.of("hydrogen", 2, "oxygen", 1), resolver.resolve("water"));
+        assertEquals(Map.of("sodium", 1, "hydrogen", 6, "oxygen", 3), resolver.resolve("hydrate"));
+    }
+
+    @Test
+    public void testResolveUnknown() {
+        final var resolver = new FormulaEngine.Resolver(ELEMENTS,
+            Map.of("a", Map.of("hydrogen", 1, "unknown", 1), "b", Map.of("a", 2)));
+        assertNull(resolver.resolve("a"));
+        assertNull(resolver.resolve("b"));
+        assertNull(resolver.resolve("unknown"));
+    }
+
+    @Test
+    public void testResolveCycle() {
+        final var resolver = new FormulaEngine.Resolver(ELEMENTS, Map.of("a",
+            Map.of("b", 1),
+            "b",
+            Map.of("a", 1, "oxygen", 1),
+            "c",
+            Map.of("b", 1),
+            "d",
+            Map.of("oxygen", 2)));
+        assertNull(resolver.resolve("c"));
+        assertNull(resolver.resolve("a"));
+        assertNull(resolver.resolve("b"));
+        // A cycle doesn't affect compounds resolved afterwards
+        assertEquals(Map.of("oxygen", 2), resolver.resolve("d"));
+    }
+
+    @Test
+    public void testHillOrderWithCarbon() {
+        assertEquals(List.of("C", "H", "Br", "N", "O"), sort("O", "N", "H", "Br", "C"));
+        assertEquals(List.of("C", "Cl", "O"), sort("O", "Cl", "C"));
+    }
+
+    @Test
+    public void testHillOrderWithoutCarbon() {
+        // Without carbon, hydrogen is ordered alphabetically like every other element
+        assertEquals(List.of("Cl", "H", "Na", "O"), sort("O", "Na", "H", "Cl"));
+    }
+
+    private static List<String> sort(final String... symbols) {
+        final var result = new ArrayList<>(List.of(symbols));
+        result.sort(FormulaEngine.createHillOrder(result));
+        return result;
+    }
+}